@@ -0,0 +1,111 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Compares parsing doubles and floats through the TypeParser with Double.parseDouble(...) and
+ * Float.parseFloat(...). Run with: ./gradlew jmh
+ * 
+ * The inputs are:
+ * - SHORT: numbers with few digits (e.g. "12.25"), converted with Clinger's fast path.
+ * - SHORTEST_REPRESENTATION: random doubles/floats as printed by Double/Float.toString(...),
+ *   i.e. up to 17 significant digits and any exponent, mostly converted with Eisel-Lemire.
+ * - LONG: numbers with 25 significant digits, converted with Eisel-Lemire from a truncated
+ *   significand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloatingPointParsingBenchmark {
+
+    private static final int INPUT_COUNT = 1024;
+
+    public enum Input {
+        SHORT, SHORTEST_REPRESENTATION, LONG
+    }
+
+    @Param
+    public Input input;
+
+    private final TypeParser parser = TypeParser.newBuilder().build();
+    private String[] doubles;
+    private String[] floats;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        doubles = new String[INPUT_COUNT];
+        floats = new String[INPUT_COUNT];
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            switch (input) {
+                case SHORT:
+                    doubles[i] = floats[i] = Double.toString((random.nextInt(2000000) - 1000000) / 100.0);
+                    break;
+                case SHORTEST_REPRESENTATION:
+                    doubles[i] = Double.toString(randomFinite(random) * random.nextDouble());
+                    floats[i] = Float.toString((float) (random.nextGaussian() * Math.pow(10, random.nextInt(60) - 30)));
+                    break;
+                case LONG:
+                    StringBuilder sb = new StringBuilder("0.");
+                    for (int digit = 0; digit < 25; digit++) {
+                        sb.append((char) ('1' + random.nextInt(9)));
+                    }
+                    doubles[i] = floats[i] = sb.append('e').append(random.nextInt(40) - 20).toString();
+                    break;
+            }
+        }
+    }
+
+    private static double randomFinite(Random random) {
+        double result;
+        do {
+            result = Double.longBitsToDouble(random.nextLong());
+        } while (Double.isNaN(result) || Double.isInfinite(result));
+        return result;
+    }
+
+    @Benchmark
+    public void typeParserParseDouble(Blackhole blackhole) {
+        for (String s : doubles) {
+            blackhole.consume(parser.parseDouble(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseDouble(Blackhole blackhole) {
+        for (String s : doubles) {
+            blackhole.consume(Double.parseDouble(s));
+        }
+    }
+
+    @Benchmark
+    public void typeParserParseFloat(Blackhole blackhole) {
+        for (String s : floats) {
+            blackhole.consume(parser.parseFloat(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseFloat(Blackhole blackhole) {
+        for (String s : floats) {
+            blackhole.consume(Float.parseFloat(s));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.Util.trimEnd;
+import static com.github.drapostolos.typeparser.Util.trimStart;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Lookup table of the words parsed to true/false, i.e. "true", "false" and the aliases
+ * registered in the builder. Words are grouped by length and matched in place, ignoring case
+ * and surrounding whitespace, so parsing allocates nothing.
+ */
+final class BooleanLookup {
+
+    static final BooleanLookup DEFAULT = new BooleanLookup(new LinkedHashMap<String, Boolean>());
+
+    private static final String[] NO_WORDS = {};
+    private static final boolean[] NO_VALUES = {};
+
+    /*
+     * Lower case words (and their values), indexed by the length of the words.
+     */
+    private final String[][] wordsByLength;
+    private final boolean[][] valuesByLength;
+
+    BooleanLookup(Map<String, Boolean> aliases) {
+        Map<String, Boolean> words = new LinkedHashMap<String, Boolean>();
+        words.put("true", Boolean.TRUE);
+        words.put("false", Boolean.FALSE);
+        for (Map.Entry<String, Boolean> e : aliases.entrySet()) {
+            words.put(toLowerCase(e.getKey().trim()), e.getValue());
+        }
+        int maxLength = 0;
+        for (String word : words.keySet()) {
+            maxLength = Math.max(maxLength, word.length());
+        }
+        wordsByLength = new String[maxLength + 1][];
+        valuesByLength = new boolean[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            int count = 0;
+            for (String word : words.keySet()) {
+                if (word.length() == length) {
+                    count++;
+                }
+            }
+            wordsByLength[length] = count == 0 ? NO_WORDS : new String[count];
+            valuesByLength[length] = count == 0 ? NO_VALUES : new boolean[count];
+            int i = 0;
+            for (Map.Entry<String, Boolean> e : words.entrySet()) {
+                if (e.getKey().length() == length) {
+                    wordsByLength[length][i] = e.getKey();
+                    valuesByLength[length][i++] = e.getValue();
+                }
+            }
+        }
+    }
+
+    /*
+     * Same lower casing as done by Util.equalsIgnoreCase(...), i.e. per character.
+     */
+    private static String toLowerCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /*
+     * Parses the trimmed range, ignoring case, throwing an IllegalArgumentException if it is
+     * not one of the words in this table.
+     */
+    boolean parse(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        int length = last - first;
+        if (length < wordsByLength.length) {
+            String[] words = wordsByLength[length];
+            for (int i = 0; i < words.length; i++) {
+                if (Util.equalsIgnoreCase(input, first, last, words[i])) {
+                    return valuesByLength[length][i];
+                }
+            }
+        }
+        String message = "\"%s\" is not parsable to a Boolean.";
+        throw new IllegalArgumentException(String.format(message, input.subSequence(start, end)));
+    }
+}
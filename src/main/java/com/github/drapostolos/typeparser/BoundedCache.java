@@ -0,0 +1,45 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Thread safe cache holding at most 'capacity' entries. When full, an arbitrary
+ * entry is evicted to make room for the new one. Values must never be null.
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentMap<K, V> map = new ConcurrentHashMap<K, V>();
+    private final int capacity;
+
+    BoundedCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be a positive number: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    V get(K key) {
+        return map.get(key);
+    }
+
+    void put(K key, V value) {
+        if (map.size() >= capacity && !map.containsKey(key)) {
+            evictOne();
+        }
+        map.put(key, value);
+    }
+
+    private void evictOne() {
+        Iterator<K> it = map.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    int size() {
+        return map.size();
+    }
+}
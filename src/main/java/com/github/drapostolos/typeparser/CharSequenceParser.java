@@ -0,0 +1,46 @@
+package com.github.drapostolos.typeparser;
+
+/**
+ * A {@link Parser} which parses a range of characters from a {@link CharSequence}, without
+ * requiring the range to be copied into a {@link String} first.
+ * <p>
+ * When parsing a {@link CharSequence} (or a range of a {@code char[]}) with the default
+ * {@link InputPreprocessor} and {@link NullStringStrategy}, the {@link TypeParser} passes the
+ * characters directly to {@link #parse(CharSequence, int, int, ParserHelper)}. Elements of
+ * {@link java.util.Collection}, {@link java.util.Map} and Array types split by a
+ * {@link StreamingSplitStrategy} are passed the same way. Otherwise the characters are copied into
+ * a {@link String} and passed to {@link #parse(String, ParserHelper)}, which by default calls
+ * {@link #parse(CharSequence, int, int, ParserHelper)} with the whole string.
+ * <p>
+ * Implementations of this interface are expected to be immutable.
+ * 
+ * @param <T> the type to convert the parsed characters to.
+ * @see <a href="https://github.com/drapostolos/type-parser/wiki"
+ *      target="_blank">User-Guide</a>
+ */
+@FunctionalInterface
+public interface CharSequenceParser<T> extends Parser<T> {
+
+    /**
+     * Parses the characters of {@code input} from index {@code start} (inclusive) to index
+     * {@code end} (exclusive), and converts them to an instance of type T.
+     * <p>
+     * The given {@code input} must not be modified, nor retained after this method returns.
+     * 
+     * @param input characters to parse. Will never be {@code null}, and the range never a
+     *        {@code NullString}.
+     * @param start index of the first character to parse.
+     * @param end index after the last character to parse.
+     * @param helper Helper class injected automatically by the {@link TypeParser}.
+     * @return an instance of type T.
+     * @throws RuntimeException Any exception thrown within this method will be wrapped and
+     *         re-thrown as a {@link TypeParserException} to the client.
+     * @see Parser#parse(String, ParserHelper)
+     */
+    T parse(CharSequence input, int start, int end, ParserHelper helper);
+
+    @Override
+    default T parse(String input, ParserHelper helper) {
+        return parse(input, 0, input.length(), helper);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.drapostolos.typeparser;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Resolves class names to classes, as done by Class.forName(...), but also recognizes primitive
+ * names (e.g. "int") and array names in source code form (e.g. "int[]", "java.lang.String[][]").
+ * Each TypeParser holds one instance for its configured ClassLoader, so resolving a name only
+ * touches that instance's cache. Cached classes are weakly referenced, so the cache does not
+ * prevent them from being unloaded.
+ */
+final class ClassNames {
+
+    private static final String ARRAY_SUFFIX = "[]";
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<String, Class<?>>();
+
+    static {
+        for (Class<?> c : new Class<?>[] { boolean.class, byte.class, char.class, short.class, int.class,
+                long.class, float.class, double.class }) {
+            PRIMITIVES.put(c.getName(), c);
+        }
+    }
+
+    private final ClassLoader loader;
+    private final boolean initialize;
+    private final ConcurrentMap<String, WeakReference<Class<?>>> cache =
+            new ConcurrentHashMap<String, WeakReference<Class<?>>>();
+
+    ClassNames(ClassLoader loader, boolean initialize) {
+        this.loader = loader;
+        this.initialize = initialize;
+    }
+
+    /*
+     * Returns the class with the given name, loaded by the ClassLoader of this instance (and
+     * initialized if so configured).
+     */
+    Class<?> forName(String name) throws ClassNotFoundException {
+        WeakReference<Class<?>> cached = cache.get(name);
+        Class<?> result = cached == null ? null : cached.get();
+        if (result == null) {
+            result = load(name, initialize, loader);
+            cache.put(name, new WeakReference<Class<?>>(result));
+        }
+        return result;
+    }
+
+    private static Class<?> load(String name, boolean initialize, ClassLoader loader) throws ClassNotFoundException {
+        int dimensions = 0;
+        int end = name.length();
+        while (name.startsWith(ARRAY_SUFFIX, end - ARRAY_SUFFIX.length())) {
+            dimensions++;
+            end -= ARRAY_SUFFIX.length();
+        }
+        if (dimensions == 0) {
+            Class<?> primitive = PRIMITIVES.get(name);
+            return primitive != null ? primitive : Class.forName(name, initialize, loader);
+        }
+        String componentName = name.substring(0, end).trim();
+        Class<?> componentType = PRIMITIVES.get(componentName);
+        if (componentType == null) {
+            try {
+                componentType = Class.forName(componentName, initialize, loader);
+            } catch (ClassNotFoundException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+        return Array.newInstance(componentType, new int[dimensions]).getClass();
+    }
+}
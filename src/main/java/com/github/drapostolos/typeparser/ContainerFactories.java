@@ -0,0 +1,140 @@
+package com.github.drapostolos.typeparser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Supplier;
+
+/*
+ * Factories creating the Collection and Map instances populated by the COLLECTION and MAP
+ * DynamicParsers. A factory is resolved once per raw class (cached in a ClassValue).
+ */
+final class ContainerFactories {
+
+    private static final MethodType NO_ARGUMENT_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<Collection<Object>>> COLLECTION_FACTORIES =
+            new ClassValue<Supplier<Collection<Object>>>() {
+
+                @Override
+                protected Supplier<Collection<Object>> computeValue(Class<?> type) {
+                    if (type.isInterface()) {
+                        return collectionFactoryFromInterface(type);
+                    }
+                    return factoryFromClass(type, "Cannot instantiate collection of type '%s'");
+                }
+            };
+
+    private static final ClassValue<Supplier<Map<Object, Object>>> MAP_FACTORIES =
+            new ClassValue<Supplier<Map<Object, Object>>>() {
+
+                @Override
+                protected Supplier<Map<Object, Object>> computeValue(Class<?> type) {
+                    if (type.isInterface()) {
+                        return mapFactoryFromInterface(type);
+                    }
+                    return factoryFromClass(type, "Cannot instantiate map of type '%s'");
+                }
+            };
+
+    private ContainerFactories() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    /*
+     * Returns a factory creating an empty instance of the given Collection type (or a default
+     * implementation if it is an interface).
+     */
+    static Supplier<Collection<Object>> collectionFactory(Class<?> collectionType) {
+        return COLLECTION_FACTORIES.get(collectionType);
+    }
+
+    /*
+     * Returns a factory creating an empty instance of the given Map type (or a default
+     * implementation if it is an interface).
+     */
+    static Supplier<Map<Object, Object>> mapFactory(Class<?> mapType) {
+        return MAP_FACTORIES.get(mapType);
+    }
+
+    private static Supplier<Collection<Object>> collectionFactoryFromInterface(Class<?> type) {
+        if (List.class.isAssignableFrom(type)) {
+            return ArrayList::new;
+        } else if (SortedSet.class.isAssignableFrom(type)) {
+            return TreeSet::new;
+        } else if (Set.class.isAssignableFrom(type)) {
+            return LinkedHashSet::new;
+        } else if (BlockingDeque.class.isAssignableFrom(type)) {
+            return LinkedBlockingDeque::new;
+        } else if (Deque.class.isAssignableFrom(type)) {
+            return ArrayDeque::new;
+        } else if (BlockingQueue.class.isAssignableFrom(type)) {
+            return LinkedBlockingDeque::new;
+        } else if (Queue.class.isAssignableFrom(type)) {
+            return LinkedList::new;
+        }
+        return ArrayList::new;
+    }
+
+    private static Supplier<Map<Object, Object>> mapFactoryFromInterface(Class<?> type) {
+        if (NavigableMap.class.isAssignableFrom(type)) {
+            return ConcurrentSkipListMap::new;
+        }
+        if (ConcurrentMap.class.isAssignableFrom(type)) {
+            return ConcurrentHashMap::new;
+        }
+        if (SortedMap.class.isAssignableFrom(type)) {
+            return TreeMap::new;
+        }
+        return LinkedHashMap::new;
+    }
+
+    /*
+     * Returns a factory calling the public no-argument constructor of the given type. If there
+     * is no such constructor, the returned factory throws an UnsupportedOperationException.
+     */
+    private static <T> Supplier<T> factoryFromClass(Class<?> type, String errorMessage) {
+        String message = String.format(errorMessage, type);
+        MethodHandle constructor;
+        try {
+            Constructor<?> c = type.getConstructor();
+            constructor = MethodHandles.publicLookup().unreflectConstructor(c).asType(NO_ARGUMENT_TYPE);
+        } catch (Exception e) {
+            return () -> {
+                throw new UnsupportedOperationException(message, e);
+            };
+        }
+        return () -> {
+            try {
+                @SuppressWarnings("unchecked")
+                T temp = (T) constructor.invokeExact();
+                return temp;
+            } catch (Throwable t) {
+                throw new UnsupportedOperationException(message, t);
+            }
+        };
+    }
+}
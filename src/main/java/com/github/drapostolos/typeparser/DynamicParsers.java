@@ -1,39 +1,22 @@
 package com.github.drapostolos.typeparser;
 
-import static java.beans.PropertyEditorManager.findEditor;
-import static java.lang.reflect.Modifier.isStatic;
+import static com.github.drapostolos.typeparser.ContainerFactories.collectionFactory;
+import static com.github.drapostolos.typeparser.ContainerFactories.mapFactory;
 import static java.util.EnumSet.allOf;
 import static java.util.stream.Collectors.toList;
 
 import java.beans.PropertyEditor;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.EnumSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.SortedSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Supplier;
 
 final class DynamicParsers {
 
@@ -58,10 +41,25 @@ final class DynamicParsers {
         throw new AssertionError("Not meant for instantiation");
     }
 
-    private static interface MandatoryOrOptionalDynamicParser extends DynamicParser{
+    static interface MandatoryOrOptionalDynamicParser extends DynamicParser{
         default boolean isMandatory() {
         	return true;
         }
+
+        /*
+         * Decides, without an input string, if this DynamicParser parses to the target type, i.e.
+         * returns false if parse(...) returns TRY_NEXT for any input that is not a NullString.
+         */
+        boolean acceptsTargetType(ParserHelper helper);
+
+        /*
+         * Decides, without an input string, if the types contained in the target type (e.g.
+         * elements of a collection) are parsable, given that this DynamicParser accepts the
+         * target type.
+         */
+        default boolean canParseContainedTypes(ParserHelper helper) {
+            return true;
+        }
     }
 
     /*
@@ -74,6 +72,11 @@ final class DynamicParsers {
          */
         ENUMSET {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.getRawTargetClass().equals(EnumSet.class);
+            }
+
             @Override
             public Object parse(String input, ParserHelper helper) {
                 if (!helper.getRawTargetClass().equals(EnumSet.class)) {
@@ -89,125 +92,103 @@ final class DynamicParsers {
         },
         COLLECTION {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.isTargetTypeAssignableTo(Collection.class);
+            }
+
+            @Override
+            public boolean canParseContainedTypes(ParserHelper helper) {
+                return isParsable(helper, () -> extractElementType(helper));
+            }
+
             @Override
             public Object parse(String input, ParserHelper helper) {
                 if (!helper.isTargetTypeAssignableTo(Collection.class)) {
                     return TRY_NEXT;
                 }
 
-                Collection<Object> collection = instantiateCollection(helper.getRawTargetClass());
+                Collection<Object> collection = collectionFactory(helper.getRawTargetClass()).get();
                 Class<?> elementType = extractElementType(helper);
                 return populateCollection(collection, elementType, input, helper);
             }
-
-            private <T> Collection<T> instantiateCollection(Class<? extends T> collectionType) {
-                if (collectionType.isInterface()) {
-                    return instantiateCollectionFromInterface(collectionType);
-                }
-                return instantiateCollectionFromClass(collectionType);
-            }
-
-            private <T> Collection<T> instantiateCollectionFromClass(Class<? extends T> collectionType) {
-                try {
-                    @SuppressWarnings("unchecked")
-                    Collection<T> temp = (Collection<T>) collectionType.newInstance();
-                    return temp;
-                } catch (Exception e) {
-                    String message = "Cannot instantiate collection of type '%s'";
-                    throw new UnsupportedOperationException(String.format(message, collectionType), e);
-                }
-            }
-
-            private <T> Collection<T> instantiateCollectionFromInterface(Class<? extends T> collectionType) {
-                if (List.class.isAssignableFrom(collectionType)) {
-                    return new ArrayList<T>();
-                } else if (SortedSet.class.isAssignableFrom(collectionType)) {
-                    return new TreeSet<T>();
-                } else if (Set.class.isAssignableFrom(collectionType)) {
-                    return new LinkedHashSet<T>();
-                } else if (BlockingDeque.class.isAssignableFrom(collectionType)) {
-                    return new LinkedBlockingDeque<T>();
-                } else if (Deque.class.isAssignableFrom(collectionType)) {
-                    return new ArrayDeque<T>();
-                } else if (BlockingQueue.class.isAssignableFrom(collectionType)) {
-                    return new LinkedBlockingDeque<T>();
-                } else if (Queue.class.isAssignableFrom(collectionType)) {
-                    return new LinkedList<T>();
-                }
-                return new ArrayList<T>();
-            }
         },
         MAP {
 
             private static final int KEY = 0;
             private static final int VALUE = 1;
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.isTargetTypeAssignableTo(Map.class);
+            }
+
+            @Override
+            public boolean canParseContainedTypes(ParserHelper helper) {
+                return isParsable(helper, () -> helper.getParameterizedClassArgumentByIndex(KEY))
+                        && isParsable(helper, () -> helper.getParameterizedClassArgumentByIndex(VALUE));
+            }
+
             @Override
             public Object parse(String input, ParserHelper helper) {
                 if (!helper.isTargetTypeAssignableTo(Map.class)) {
                     return TRY_NEXT;
                 }
-                Map<Object, Object> map = instantiateMap(helper.getRawTargetClass());
-                for (String entryString : helper.split(input)) {
+                Map<Object, Object> map = mapFactory(helper.getRawTargetClass()).get();
+                helper.split(input, (source, start, end) -> {
                     Class<?> keyType = helper.getParameterizedClassArgumentByIndex(KEY);
                     Class<?> valueType = helper.getParameterizedClassArgumentByIndex(VALUE);
-                    List<String> entry = helper.splitKeyValue(entryString);
+                    List<String> entry = helper.splitKeyValue(source.substring(start, end));
                     map.put(helper.parse(entry.get(KEY), keyType), helper.parse(entry.get(VALUE), valueType));
-                }
+                });
                 return map;
             }
 
-            private <K, V> Map<K, V> instantiateMap(Class<?> rawType) {
-                if (rawType.isInterface()) {
-                    return instantiateMapFromInterface(rawType);
-                }
-                return instantiateMapFromClass(rawType);
-            }
+        },
+        ARRAY {
 
-            private <K, V> Map<K, V> instantiateMapFromInterface(Class<?> targetType) {
-                if (NavigableMap.class.isAssignableFrom(targetType)) {
-                    return new ConcurrentSkipListMap<K, V>();
-                }
-                if (ConcurrentMap.class.isAssignableFrom(targetType)) {
-                    return new ConcurrentHashMap<K, V>();
-                }
-                if (SortedMap.class.isAssignableFrom(targetType)) {
-                    return new TreeMap<K, V>();
-                }
-                return new LinkedHashMap<K, V>();
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.getRawTargetClass().isArray();
             }
 
-            private <K, V> Map<K, V> instantiateMapFromClass(Class<?> rawType) {
-                try {
-                    @SuppressWarnings("unchecked")
-                    Map<K, V> temp = (Map<K, V>) rawType.newInstance();
-                    return temp;
-                } catch (Exception e) {
-                    String message = String.format("Cannot instantiate map of type '%s'", rawType);
-                    throw new UnsupportedOperationException(message, e);
-                }
+            @Override
+            public boolean canParseContainedTypes(ParserHelper helper) {
+                return isParsable(helper, () -> helper.getComponentClass());
             }
 
-        },
-        ARRAY {
-
             @Override
             public Object parse(String input, ParserHelper helper) {
                 if (!helper.getRawTargetClass().isArray()) {
                     return TRY_NEXT;
                 }
-                List<String> strList = helper.split(input);
                 Class<?> componentType = helper.getComponentClass();
-                Object result = Array.newInstance(componentType, strList.size());
-                for (int i = 0; i < strList.size(); i++) {
-                    Object element = helper.parse(strList.get(i), componentType);
-                    Array.set(result, i, element);
+                if (PrimitiveArrays.canParse(componentType, helper)) {
+                    return PrimitiveArrays.parse(input, componentType, helper);
+                }
+                List<Object> elements = new ArrayList<Object>();
+                helper.split(input, (source, start, end) -> {
+                    elements.add(helper.parseType(source, start, end, componentType));
+                });
+                Object result = Array.newInstance(componentType, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(result, i, elements.get(i));
                 }
                 return result;
             }
         },
     	OPTIONAL {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.isTargetTypeAssignableTo(Optional.class);
+            }
+
+            @Override
+            public boolean canParseContainedTypes(ParserHelper helper) {
+                return isParsable(helper, () -> helper.getParameterizedTypeArguments().get(0));
+            }
+
 			@Override
 			public Object parse(String input, ParserHelper helper) {
                 if (!helper.isTargetTypeAssignableTo(Optional.class)) {
@@ -222,12 +203,27 @@ final class DynamicParsers {
 
         static private Collection<Object> populateCollection(Collection<Object> collection,
                 Class<?> elementType, String input, ParserHelper helper) {
-            for (String value : helper.split(input)) {
-                collection.add(helper.parseType(value, elementType));
-            }
+            helper.split(input, (source, start, end) -> {
+                collection.add(helper.parseType(source, start, end, elementType));
+            });
             return collection;
         }
 
+        /*
+         * Checks if the element type returned from the given supplier is parsable. If the element
+         * type can not be extracted, parsing fails with a TypeParserException rather than with a
+         * NoSuchRegisteredParserException, so that is considered parsable.
+         */
+        static private boolean isParsable(ParserHelper helper, Supplier<Type> elementType) {
+            Type type;
+            try {
+                type = elementType.get();
+            } catch (RuntimeException e) {
+                return true;
+            }
+            return helper.isParsable(type);
+        }
+
         static private Class<?> extractElementType(ParserHelper helper) {
             if (helper.isTargetTypeParameterized()) {
                 return helper.getParameterizedClassArgumentByIndex(0);
@@ -243,19 +239,29 @@ final class DynamicParsers {
     enum NoneContainerType implements MandatoryOrOptionalDynamicParser {
         ENUM {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.getRawTargetClass().isEnum();
+            }
+
             @Override
             public Object parseImp(String input, ParserHelper helper) {
                 if (!helper.getRawTargetClass().isEnum()) {
                     return TRY_NEXT;
                 }
-                Class<Enum<?>> enumType = helper.getRawTargetClass();
-                Enum<?> temp = Enum.valueOf(enumType.asSubclass(Enum.class), input.trim());
-                return temp;
+                EnumLookup lookup = helper.enumLookup(helper.getRawTargetClass());
+                helper.resolveParser(lookup);
+                return lookup.valueOf(input, 0, input.length());
             }
 
         },
         CLASS {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return helper.isRawTargetClassAnyOf(Class.class);
+            }
+
             @Override
             public Object parseImp(String input, ParserHelper helper) {
                 Class<?> t = helper.getRawTargetClass();
@@ -263,7 +269,7 @@ final class DynamicParsers {
                     return TRY_NEXT;
                 }
                 try {
-                    return Class.forName(input.trim());
+                    return helper.classForName(input.trim());
                 } catch (ClassNotFoundException e) {
                     throw new UnsupportedOperationException("ClassNotFound: " + e.getMessage(), e);
                 }
@@ -271,88 +277,106 @@ final class DynamicParsers {
         },
         CLASS_DECLARING_STATIC_FACTORY_METHOD {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                for (SingleArgumentFactory m : SingleArgumentFactory.staticFactoryMethods(helper.getRawTargetClass())) {
+                    if (helper.isParsable(m.argumentType())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
             @Override
             public Object parseImp(final String input, ParserHelper helper) {
                 // try find a matching method.
-                for (Method m : helper.getRawTargetClass().getDeclaredMethods()) {
-                    if (isStaticFactoryMethod(m)) {
-                        Type argType = m.getGenericParameterTypes()[0];
-                        try {
-                        	Object argument = helper.parseType(input, argType);
-                            return setMethodAccessibleAndInvoke(m, argument);
-                        } catch (NoSuchRegisteredParserException e) {
-                            continue;
-                        } catch (TypeParserException e) {
-                            if (e.getCause() instanceof StackOverflowError) {
-                                String message = "StackOverflowError: Cyclic argument type "
-                                        + "for method '%s' on this type.";
-                                throw new StackOverflowError(String.format(message, m));
-                            } else {
-                                throw e;
-                            }
+                for (SingleArgumentFactory m : SingleArgumentFactory.staticFactoryMethods(helper.getRawTargetClass())) {
+                    Object argument;
+                    try {
+                        argument = helper.parseType(input, m.argumentType());
+                    } catch (NoSuchRegisteredParserException e) {
+                        continue;
+                    } catch (TypeParserException e) {
+                        if (e.getCause() instanceof StackOverflowError) {
+                            String message = "StackOverflowError: Cyclic argument type "
+                                    + "for method '%s' on this type.";
+                            throw new StackOverflowError(String.format(message, m.member()));
+                        } else {
+                            throw e;
                         }
                     }
+                    /*
+                     * The first method with a parsable argument type is the one to use for
+                     * this target type from now on.
+                     */
+                    TypedParser<?> argumentParser = helper.typedParser(m.argumentType());
+                    helper.resolveParser((in, h) -> invokeStaticFactoryMethod(m, argumentParser.parse(in)));
+                    return invokeStaticFactoryMethod(m, argument);
                 }
                 return TRY_NEXT;
             }
 
-            private Object setMethodAccessibleAndInvoke(Method method, Object argument) {
-                final Object staticMethod = null;
+            private Object invokeStaticFactoryMethod(SingleArgumentFactory method, Object argument) {
                 try {
-                    method.setAccessible(true);
-                    return method.invoke(staticMethod, argument);
-                } catch (Exception e) {
+                    return method.invoke(argument);
+                } catch (Throwable e) {
                     String message = "Failed when calling static factory method %s, "
                             + "with error message: %s";
-                    message = String.format(message, method, e.getMessage());
+                    message = String.format(message, method.member(), e.getMessage());
                     throw new UnsupportedOperationException(message, e);
                 }
-			}
-
-			private boolean isStaticFactoryMethod(Method m) {
-                return isStatic(m.getModifiers()) &&
-                        m.getParameterTypes().length == 1 &&
-                        m.getDeclaringClass().isAssignableFrom(m.getReturnType());
             }
         },
         CLASS_DECLARING_SINGLE_ARGUMENT_CONSTRUCTOR {
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                for (SingleArgumentFactory c : SingleArgumentFactory.singleArgumentConstructors(helper.getRawTargetClass())) {
+                    if (helper.isParsable(c.argumentType())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
             @Override
             public Object parseImp(final String input, ParserHelper helper) {
                 // try find a matching constructor.
-                for (Constructor<?> constructor : helper.getRawTargetClass().getDeclaredConstructors()) {
-                	int lengthOf1Element = 1;
-                    if (constructor.getGenericParameterTypes().length == lengthOf1Element) {
-                        Type argType = constructor.getGenericParameterTypes()[0];
-                        try {
-                        	Object argument = helper.parseType(input, argType);
-                            return setConstructorAccessibleAndInstantiateIt(constructor, argument);
-                        } catch (NoSuchRegisteredParserException e) {
-                            continue;
-                        } catch (TypeParserException e) {
-                            if (e.getCause() instanceof StackOverflowError) {
-                                String message = "StackOverflowError: Cyclic argument type "
-                                        + "for constructor '%s' on this type.";
-                                throw new StackOverflowError(String.format(message, constructor));
-                            } else {
-                                throw e;
-                            }
+                for (SingleArgumentFactory c : SingleArgumentFactory.singleArgumentConstructors(helper.getRawTargetClass())) {
+                    Object argument;
+                    try {
+                        argument = helper.parseType(input, c.argumentType());
+                    } catch (NoSuchRegisteredParserException e) {
+                        continue;
+                    } catch (TypeParserException e) {
+                        if (e.getCause() instanceof StackOverflowError) {
+                            String message = "StackOverflowError: Cyclic argument type "
+                                    + "for constructor '%s' on this type.";
+                            throw new StackOverflowError(String.format(message, c.member()));
+                        } else {
+                            throw e;
                         }
                     }
+                    /*
+                     * The first constructor with a parsable argument type is the one to use for
+                     * this target type from now on.
+                     */
+                    TypedParser<?> argumentParser = helper.typedParser(c.argumentType());
+                    helper.resolveParser((in, h) -> invokeConstructor(c, argumentParser.parse(in)));
+                    return invokeConstructor(c, argument);
                 }
                 return TRY_NEXT;
             }
 
-			Object setConstructorAccessibleAndInstantiateIt(Constructor<?> constructor, Object argument) {
-                constructor.setAccessible(true);
+            private Object invokeConstructor(SingleArgumentFactory constructor, Object argument) {
                 try {
-                    return constructor.newInstance(argument);
-                } catch (Exception e) {
+                    return constructor.invoke(argument);
+                } catch (Throwable e) {
                     String message = "Failed when calling constructor %s, with error message: %s";
-                    message = String.format(message, constructor, e.getMessage());
+                    message = String.format(message, constructor.member(), e.getMessage());
                     throw new UnsupportedOperationException(message, e);
                 }
-			}
+            }
         },
         PROPERTY_EDITOR {
             @Override
@@ -360,9 +384,14 @@ final class DynamicParsers {
                 return false;
             }
 
+            @Override
+            public boolean acceptsTargetType(ParserHelper helper) {
+                return PropertyEditors.hasEditor(helper.getRawTargetClass());
+            }
+
             @Override
             public Object parseImp(String input, ParserHelper helper) {
-                PropertyEditor editor = findEditor(helper.getRawTargetClass());
+                PropertyEditor editor = PropertyEditors.editor(helper.getRawTargetClass());
                 if (editor == null) {
                     return TRY_NEXT;
                 }
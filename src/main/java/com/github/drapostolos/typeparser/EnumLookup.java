@@ -0,0 +1,155 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.Collections;
+import java.util.Map;
+
+/*
+ * Lookup table mapping names (and aliases) to the constants of an enum type. The table is an
+ * open addressing hash table built once per enum type, and matches a name without trimming
+ * or allocating. A miss is reported by returning null. The lookup is also the parser resolved
+ * for its enum type, so no parser needs to be created per parsed string.
+ */
+final class EnumLookup implements CharSequenceParser<Object> {
+
+    private static final ClassValue<EnumLookup> CASE_SENSITIVE = new ClassValue<EnumLookup>() {
+
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup(type, false, Collections.<String, Enum<?>> emptyMap());
+        }
+    };
+
+    private static final ClassValue<EnumLookup> CASE_INSENSITIVE = new ClassValue<EnumLookup>() {
+
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup(type, true, Collections.<String, Enum<?>> emptyMap());
+        }
+    };
+
+    private final Class<?> enumType;
+    private final boolean ignoreCase;
+    private final String[] keys;
+    private final Enum<?>[] constants;
+    private final int mask;
+
+    /*
+     * Creates a lookup for the constant names of the given enum type, plus the given aliases
+     * (which take precedence over a constant name equal to the alias).
+     */
+    EnumLookup(Class<?> enumType, boolean ignoreCase, Map<String, Enum<?>> aliases) {
+        this.enumType = enumType;
+        this.ignoreCase = ignoreCase;
+        Enum<?>[] enumConstants = (Enum<?>[]) enumType.getEnumConstants();
+        int capacity = Integer.highestOneBit((enumConstants.length + aliases.size()) * 2 + 1) * 2;
+        this.keys = new String[capacity];
+        this.constants = new Enum<?>[capacity];
+        this.mask = capacity - 1;
+        for (Enum<?> constant : enumConstants) {
+            put(constant.name(), constant);
+        }
+        for (Map.Entry<String, Enum<?>> alias : aliases.entrySet()) {
+            put(alias.getKey(), alias.getValue());
+        }
+    }
+
+    /*
+     * Returns the shared lookup (without aliases) of the given enum type.
+     */
+    static EnumLookup of(Class<?> enumType, boolean ignoreCase) {
+        return ignoreCase ? CASE_INSENSITIVE.get(enumType) : CASE_SENSITIVE.get(enumType);
+    }
+
+    private void put(String key, Enum<?> constant) {
+        int i = hash(key, 0, key.length()) & mask;
+        while (keys[i] != null && !keys[i].equals(key)) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        constants[i] = constant;
+    }
+
+    /*
+     * Returns the constant named (or aliased) by the given range of characters, ignoring leading
+     * and trailing whitespace (as removed by String.trim()), or null if there is no such
+     * constant. When ignoring case, an exact match is preferred.
+     */
+    Enum<?> find(CharSequence input, int start, int end) {
+        start = Util.trimStart(input, start, end);
+        end = Util.trimEnd(input, start, end);
+        int length = end - start;
+        Enum<?> caseInsensitiveMatch = null;
+        for (int i = hash(input, start, end) & mask; keys[i] != null; i = (i + 1) & mask) {
+            String key = keys[i];
+            if (key.length() != length) {
+                continue;
+            }
+            if (regionMatches(key, input, start, false)) {
+                return constants[i];
+            }
+            if (ignoreCase && caseInsensitiveMatch == null && regionMatches(key, input, start, true)) {
+                caseInsensitiveMatch = constants[i];
+            }
+        }
+        return caseInsensitiveMatch;
+    }
+
+    /*
+     * Same as find(CharSequence, int, int), but throws an IllegalArgumentException (as
+     * Enum.valueOf(...) does) if there is no such constant.
+     */
+    Enum<?> valueOf(CharSequence input, int start, int end) {
+        Enum<?> result = find(input, start, end);
+        if (result == null) {
+            throw new IllegalArgumentException(noSuchConstantMessage(input.subSequence(start, end).toString()));
+        }
+        return result;
+    }
+
+    @Override
+    public Object parse(CharSequence input, int start, int end, ParserHelper helper) {
+        return valueOf(input, start, end);
+    }
+
+    /*
+     * Same as String.regionMatches(...), comparing all of key with the range of input starting
+     * at 'start'.
+     */
+    private static boolean regionMatches(String key, CharSequence input, int start, boolean ignoreCase) {
+        for (int i = 0; i < key.length(); i++) {
+            char c1 = key.charAt(i);
+            char c2 = input.charAt(start + i);
+            if (c1 == c2) {
+                continue;
+            }
+            if (!ignoreCase) {
+                return false;
+            }
+            char u1 = Character.toUpperCase(c1);
+            char u2 = Character.toUpperCase(c2);
+            if (u1 != u2 && Character.toLowerCase(u1) != Character.toLowerCase(u2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Same message as thrown by Enum.valueOf(...).
+     */
+    String noSuchConstantMessage(String input) {
+        return "No enum constant " + enumType.getCanonicalName() + "." + input.trim();
+    }
+
+    private int hash(CharSequence s, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (ignoreCase) {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.drapostolos.typeparser;
+
+import java.lang.reflect.Type;
+
+/*
+ * Context of a failed parse (input, preprocessed input, target type and the reason it failed),
+ * kept by TypeParserException and NoSuchRegisteredParserException to render their message
+ * only when asked for it.
+ */
+final class ErrorContext {
+
+    private final String input;
+    private final String preprocessedInput;
+    private final TargetType targetType;
+    private final String reasonPrefix;
+    private final Throwable reason;
+
+    /*
+     * The message of 'reason', prefixed with 'reasonPrefix', is what the parse failed due to.
+     */
+    ErrorContext(String input, String preprocessedInput, TargetType targetType, String reasonPrefix,
+            Throwable reason) {
+        this.input = input;
+        this.preprocessedInput = preprocessedInput;
+        this.targetType = targetType;
+        this.reasonPrefix = reasonPrefix;
+        this.reason = reason;
+    }
+
+    String input() {
+        return input;
+    }
+
+    String preprocessedInput() {
+        return preprocessedInput;
+    }
+
+    Type targetType() {
+        return targetType.targetType();
+    }
+
+    String render() {
+        return Util.formatErrorMessage(input, preprocessedInput, targetType, reasonPrefix + reason.getMessage());
+    }
+}
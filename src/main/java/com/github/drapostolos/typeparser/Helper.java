@@ -67,8 +67,9 @@ abstract class Helper {
      *         (with exception of {@link Class}).
      */
     Class<?> getComponentClass() {
-        if (tt.rawTargetType().isArray()) {
-            return tt.rawTargetType().getComponentType();
+        Class<?> componentClass = tt.componentClass();
+        if (componentClass != null) {
+            return componentClass;
         }
         throw new UnsupportedOperationException("type is not an array.");
     }
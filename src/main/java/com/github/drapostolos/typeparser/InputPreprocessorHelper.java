@@ -12,12 +12,12 @@ import static com.github.drapostolos.typeparser.Util.makeNullArgumentErrorMsg;
 public final class InputPreprocessorHelper extends Helper {
 
     final private NullStringStrategy nullStringStrategy;
-    final private TargetType targetType;
+    final private NullStringStrategyHelper nullStringStrategyHelper;
 
     InputPreprocessorHelper(TargetType targetType, TypeParser typeParser) {
         super(targetType);
-        this.targetType = targetType;
         this.nullStringStrategy = typeParser.nullStringStrategy;
+        this.nullStringStrategyHelper = new NullStringStrategyHelper(targetType);
     }
 
     /**
@@ -33,6 +33,6 @@ public final class InputPreprocessorHelper extends Helper {
         if (input == null) {
             throw new NullPointerException(makeNullArgumentErrorMsg("input"));
         }
-        return nullStringStrategy.isNullString(input, new NullStringStrategyHelper(targetType));
+        return nullStringStrategy.isNullString(input, nullStringStrategyHelper);
     }
 }
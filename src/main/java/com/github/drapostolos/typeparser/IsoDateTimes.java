@@ -0,0 +1,137 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.Util.trimEnd;
+import static com.github.drapostolos.typeparser.Util.trimStart;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/*
+ * Parses the strict ISO-8601 shapes "yyyy-MM-dd", "HH:mm[:ss[.S...]]" and
+ * "yyyy-MM-dd'T'HH:mm[:ss[.S...]]" from a (trimmed) range of characters, reading the digits at
+ * fixed positions and calling LocalDate.of(...)/LocalTime.of(...) directly. Any other input
+ * (including invalid dates and times) is passed to LocalDate.parse(...) etc., so the accepted
+ * input and the error messages are the same as for the JDK's ISO formatters.
+ */
+final class IsoDateTimes {
+
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+    private static final int SHORT_TIME_LENGTH = "HH:mm".length();
+    private static final int TIME_LENGTH = "HH:mm:ss".length();
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int NOT_A_NUMBER = -1;
+
+    private IsoDateTimes() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    static LocalDate parseLocalDate(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        if (last - first == DATE_LENGTH) {
+            LocalDate result = localDate(input, first);
+            if (result != null) {
+                return result;
+            }
+        }
+        return LocalDate.parse(input.subSequence(first, last));
+    }
+
+    static LocalTime parseLocalTime(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        LocalTime result = localTime(input, first, last);
+        if (result != null) {
+            return result;
+        }
+        return LocalTime.parse(input.subSequence(first, last));
+    }
+
+    static LocalDateTime parseLocalDateTime(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        if (last - first > DATE_LENGTH && input.charAt(first + DATE_LENGTH) == 'T') {
+            LocalDate date = localDate(input, first);
+            LocalTime time = date == null ? null : localTime(input, first + DATE_LENGTH + 1, last);
+            if (time != null) {
+                return LocalDateTime.of(date, time);
+            }
+        }
+        return LocalDateTime.parse(input.subSequence(first, last));
+    }
+
+    /*
+     * Returns the date "yyyy-MM-dd" starting at the given index, or null if not a valid date.
+     */
+    private static LocalDate localDate(CharSequence input, int i) {
+        int year = digits(input, i, 4);
+        int month = digits(input, i + 5, 2);
+        int day = digits(input, i + 8, 2);
+        if (year == NOT_A_NUMBER || month == NOT_A_NUMBER || day == NOT_A_NUMBER
+                || input.charAt(i + 4) != '-' || input.charAt(i + 7) != '-') {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Returns the time "HH:mm[:ss[.S...]]" in the given range, or null if not a valid time.
+     */
+    private static LocalTime localTime(CharSequence input, int start, int end) {
+        int length = end - start;
+        if (length != SHORT_TIME_LENGTH && length != TIME_LENGTH
+                && (length < TIME_LENGTH + 2 || length > TIME_LENGTH + 1 + MAX_FRACTION_DIGITS)) {
+            return null;
+        }
+        int hour = digits(input, start, 2);
+        int minute = digits(input, start + 3, 2);
+        if (hour == NOT_A_NUMBER || minute == NOT_A_NUMBER || input.charAt(start + 2) != ':') {
+            return null;
+        }
+        int second = 0;
+        int nano = 0;
+        if (length > SHORT_TIME_LENGTH) {
+            second = digits(input, start + 6, 2);
+            if (second == NOT_A_NUMBER || input.charAt(start + 5) != ':') {
+                return null;
+            }
+            if (length > TIME_LENGTH) {
+                int fractionDigits = length - TIME_LENGTH - 1;
+                nano = digits(input, start + TIME_LENGTH + 1, fractionDigits);
+                if (nano == NOT_A_NUMBER || input.charAt(start + TIME_LENGTH) != '.') {
+                    return null;
+                }
+                for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        try {
+            return LocalTime.of(hour, minute, second, nano);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Returns the value of the given number of ASCII digits starting at the given index, or
+     * NOT_A_NUMBER if any of the characters is not an ASCII digit.
+     */
+    private static int digits(CharSequence input, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_NUMBER;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
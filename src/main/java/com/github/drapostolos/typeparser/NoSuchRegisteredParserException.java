@@ -1,8 +1,16 @@
 package com.github.drapostolos.typeparser;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Type;
+
 /**
  * A {@link NoSuchRegisteredParserException} is thrown when there is NO registered {@link Parser}
  * for a given {@code targetType}.
+ * <p>
+ * The input string and target type of the failed parse are available through
+ * {@link #getInput()}, {@link #getPreprocessedInput()} and {@link #getTargetType()}. The message
+ * is only rendered when asked for.
  * 
  * @see <a href="https://github.com/drapostolos/type-parser/wiki"
  *      target="_blank">User-Guide</a>
@@ -10,8 +18,56 @@ package com.github.drapostolos.typeparser;
 public final class NoSuchRegisteredParserException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
+    private final transient ErrorContext context;
+    private String message;
 
     NoSuchRegisteredParserException(String message) {
-        super(message);
+        this.context = null;
+        this.message = message;
+    }
+
+    NoSuchRegisteredParserException(ErrorContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = context.render();
+        }
+        return message;
+    }
+
+    /**
+     * Returns the input string which could not be parsed.
+     * 
+     * @return the input string, or {@code null} if not known.
+     */
+    public String getInput() {
+        return context == null ? null : context.input();
+    }
+
+    /**
+     * Returns the input string, as returned by the {@link InputPreprocessor}, which could not be
+     * parsed.
+     * 
+     * @return the preprocessed input string, or {@code null} if not known.
+     */
+    public String getPreprocessedInput() {
+        return context == null ? null : context.preprocessedInput();
+    }
+
+    /**
+     * Returns the type the input string could not be parsed to.
+     * 
+     * @return the target type, or {@code null} if not known.
+     */
+    public Type getTargetType() {
+        return context == null ? null : context.targetType();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
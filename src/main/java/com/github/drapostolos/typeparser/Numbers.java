@@ -0,0 +1,578 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.Util.trimEnd;
+import static com.github.drapostolos.typeparser.Util.trimStart;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+
+/*
+ * Parses decimal numbers from a range of characters, accepting the same input as
+ * Long.parseLong(input.trim()) (and the Integer, Short, Byte, Double and Float equivalents),
+ * without copying the characters into a String when possible.
+ */
+final class Numbers {
+
+    /*
+     * Largest significands and powers of ten that are exactly representable as double/float.
+     */
+    private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+    private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    private static final float[] EXACT_FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+    /*
+     * Significant digits kept by parseDecimal(...); any further digits are dropped. As many
+     * digits always fit in an unsigned long.
+     */
+    private static final int MAX_SIGNIFICAND_DIGITS = 19;
+    /*
+     * Integers of at most this many digits always fit in a long.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    /*
+     * Decimal numbers with at most this many significant digits survive a round trip through
+     * double (DBL_DIG in C).
+     */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    /*
+     * Never used directly (NumberFormats are not thread safe), only cloned.
+     */
+    private static final NumberFormat US_NUMBER_FORMAT = NumberFormat.getInstance(Locale.US);
+
+    private Numbers() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    static int parseInt(CharSequence input, int start, int end) {
+        return (int) parseLong(input, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    static long parseLong(CharSequence input, int start, int end) {
+        return parseLong(input, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    static short parseShort(CharSequence input, int start, int end) {
+        return (short) parseIntInRange(input, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    static byte parseByte(CharSequence input, int start, int end) {
+        return (byte) parseIntInRange(input, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    /*
+     * Parses an int within [min, max], reporting a value out of range the way Short.parseShort(...)
+     * and Byte.parseByte(...) do.
+     */
+    private static int parseIntInRange(CharSequence input, int start, int end, int min, int max) {
+        int result = parseInt(input, start, end);
+        if (result < min || result > max) {
+            int first = trimStart(input, start, end);
+            CharSequence value = input.subSequence(first, trimEnd(input, first, end));
+            throw new NumberFormatException("Value out of range. Value:\"" + value + "\" Radix:10");
+        }
+        return result;
+    }
+
+    /*
+     * Parses the trimmed range, throwing a NumberFormatException (with the same message as
+     * Long.parseLong(...)) if it is not a decimal number within [min, max].
+     */
+    static long parseLong(CharSequence input, int start, int end, long min, long max) {
+        start = trimStart(input, start, end);
+        end = trimEnd(input, start, end);
+        if (start == end) {
+            throw forInputString(input, start, end);
+        }
+        int i = start;
+        boolean negative = false;
+        char first = input.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == end) {
+                throw forInputString(input, start, end);
+            }
+        }
+        // Accumulate negatively (as Long.parseLong does) so that min can be represented.
+        long limit = negative ? min : -max;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0 || result < multiplicationLimit) {
+                throw forInputString(input, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw forInputString(input, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException forInputString(CharSequence input, int start, int end) {
+        return new NumberFormatException("For input string: \"" + input.subSequence(start, end) + "\"");
+    }
+
+    /*
+     * Same as Double.parseDouble(...) on the range. Plain decimal numbers (e.g. "-12.5e3") are
+     * converted as described at Conversion.DOUBLE. Any other input (including invalid input), and
+     * the rare decimal numbers not converted there, are passed to Double.parseDouble(...).
+     */
+    static double parseDouble(CharSequence input, int start, int end) {
+        long bits = parseDecimal(input, start, end, Conversion.DOUBLE);
+        if (bits != NOT_CONVERTED) {
+            return Double.longBitsToDouble(bits);
+        }
+        return Double.parseDouble(input.subSequence(start, end).toString());
+    }
+
+    /*
+     * Same as Float.parseFloat(...) on the range. See parseDouble(...).
+     */
+    static float parseFloat(CharSequence input, int start, int end) {
+        long bits = parseDecimal(input, start, end, Conversion.FLOAT);
+        if (bits != NOT_CONVERTED) {
+            return Float.intBitsToFloat((int) bits);
+        }
+        return Float.parseFloat(input.subSequence(start, end).toString());
+    }
+
+    /*
+     * A decimal number converted by Conversion.PACKED_DECIMAL, packed into a long (to not
+     * allocate): bit 63 is the sign, bits 62-16 the significand and bits 15-0 the power of ten
+     * (two's complement). Powers of ten are within (-EXPONENT_LIMIT, EXPONENT_LIMIT).
+     */
+    private static final int EXPONENT_BITS = 16;
+    private static final long SIGNIFICAND_LIMIT = 1L << (63 - EXPONENT_BITS);
+    private static final int EXPONENT_LIMIT = 1 << (EXPONENT_BITS - 2);
+    /*
+     * Returned by parseDecimal(...) for input it does not convert. It is neither the bits of a
+     * converted double (it is a NaN), nor of a float (it is outside the int range), nor a packed
+     * decimal number (its power of ten is out of range).
+     */
+    private static final long NOT_CONVERTED = 0x7FF8000000000000L | EXPONENT_LIMIT;
+
+    private static long significand(long decimal) {
+        return (decimal & Long.MAX_VALUE) >>> EXPONENT_BITS;
+    }
+
+    private static int exponent(long decimal) {
+        return (short) decimal;
+    }
+
+    private static boolean isNegative(long decimal) {
+        return decimal < 0;
+    }
+
+    /*
+     * Parses the trimmed range as [+-]digits[.digits][(e|E)[+-]digits], and converts it with the
+     * given Conversion. Significant digits beyond MAX_SIGNIFICAND_DIGITS are dropped (and
+     * reported to the Conversion as a truncated significand). Returns NOT_CONVERTED for any other
+     * input.
+     */
+    private static long parseDecimal(CharSequence input, int start, int end, Conversion conversion) {
+        int i = trimStart(input, start, end);
+        end = trimEnd(input, i, end);
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i++) == '-';
+        }
+        long significand = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        boolean truncated = false;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (significantDigits < MAX_SIGNIFICAND_DIGITS) {
+                    if (significand != 0 || c != '0') {
+                        significantDigits++;
+                        significand = significand * 10 + (c - '0');
+                    }
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else {
+                    truncated = true;
+                    if (!fraction) {
+                        exponent++;
+                    }
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return NOT_CONVERTED;
+        }
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            if (++i == end) {
+                return NOT_CONVERTED;
+            }
+            boolean negativeExponent = false;
+            if (input.charAt(i) == '-' || input.charAt(i) == '+') {
+                negativeExponent = input.charAt(i++) == '-';
+            }
+            if (i == end) {
+                return NOT_CONVERTED;
+            }
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9' || explicitExponent >= EXPONENT_LIMIT) {
+                    return NOT_CONVERTED;
+                }
+                explicitExponent = explicitExponent * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end || Math.abs(exponent) >= EXPONENT_LIMIT) {
+            return NOT_CONVERTED;
+        }
+        return conversion.convert(negative, significand, exponent, truncated);
+    }
+
+    /*
+     * Converts a decimal number parsed by parseDecimal(...) to the bits of the result, or to
+     * NOT_CONVERTED. The significand is an unsigned long of at most MAX_SIGNIFICAND_DIGITS digits;
+     * 'truncated' is true if further digits were dropped from it.
+     */
+    private enum Conversion {
+
+        /*
+         * To the bits of a double, as returned by Double.doubleToRawLongBits(...). A significand
+         * and power of ten both exactly representable as a double are computed with a single,
+         * hence correctly rounded, multiplication or division (Clinger's fast path). Any other
+         * number is converted with eiselLemire(...).
+         */
+        DOUBLE {
+
+            @Override
+            long convert(boolean negative, long significand, int exponent, boolean truncated) {
+                long sign = negative ? Long.MIN_VALUE : 0L;
+                if (significand == 0) {
+                    return sign;
+                }
+                if (!truncated && Long.compareUnsigned(significand, MAX_EXACT_DOUBLE_SIGNIFICAND) <= 0
+                        && Math.abs(exponent) < EXACT_DOUBLE_POWERS_OF_TEN.length) {
+                    double result = significand;
+                    if (exponent < 0) {
+                        result /= EXACT_DOUBLE_POWERS_OF_TEN[-exponent];
+                    } else {
+                        result *= EXACT_DOUBLE_POWERS_OF_TEN[exponent];
+                    }
+                    return sign | Double.doubleToRawLongBits(result);
+                }
+                long bits = eiselLemire(significand, exponent, truncated, DOUBLE_SIGNIFICAND_BITS, DOUBLE_EXPONENT_BIAS);
+                return bits == NOT_CONVERTED ? NOT_CONVERTED : sign | bits;
+            }
+        },
+        /*
+         * To the bits of a float, as returned by Float.floatToRawIntBits(...) (as an unsigned
+         * int). See DOUBLE.
+         */
+        FLOAT {
+
+            @Override
+            long convert(boolean negative, long significand, int exponent, boolean truncated) {
+                long sign = negative ? 1L << 31 : 0L;
+                if (significand == 0) {
+                    return sign;
+                }
+                if (!truncated && Long.compareUnsigned(significand, MAX_EXACT_FLOAT_SIGNIFICAND) <= 0
+                        && Math.abs(exponent) < EXACT_FLOAT_POWERS_OF_TEN.length) {
+                    float result = significand;
+                    if (exponent < 0) {
+                        result /= EXACT_FLOAT_POWERS_OF_TEN[-exponent];
+                    } else {
+                        result *= EXACT_FLOAT_POWERS_OF_TEN[exponent];
+                    }
+                    return sign | Float.floatToRawIntBits(result);
+                }
+                long bits = eiselLemire(significand, exponent, truncated, FLOAT_SIGNIFICAND_BITS, FLOAT_EXPONENT_BIAS);
+                return bits == NOT_CONVERTED ? NOT_CONVERTED : sign | bits;
+            }
+        },
+        /*
+         * To a packed decimal number (see EXPONENT_BITS), if the significand is not truncated and
+         * less than SIGNIFICAND_LIMIT.
+         */
+        PACKED_DECIMAL {
+
+            @Override
+            long convert(boolean negative, long significand, int exponent, boolean truncated) {
+                if (truncated || Long.compareUnsigned(significand, SIGNIFICAND_LIMIT) >= 0) {
+                    return NOT_CONVERTED;
+                }
+                long result = (significand << EXPONENT_BITS) | (exponent & 0xFFFF);
+                return negative ? result | Long.MIN_VALUE : result;
+            }
+        };
+
+        abstract long convert(boolean negative, long significand, int exponent, boolean truncated);
+    }
+
+    /*
+     * Explicitly stored significand bits and exponent biases of the IEEE 754 double and float
+     * formats.
+     */
+    private static final int DOUBLE_SIGNIFICAND_BITS = 52;
+    private static final int DOUBLE_EXPONENT_BIAS = 1023;
+    private static final int FLOAT_SIGNIFICAND_BITS = 23;
+    private static final int FLOAT_EXPONENT_BIAS = 127;
+
+    /*
+     * Same as eiselLemire(long, int, int, int), but for a possibly truncated significand: then the
+     * number lies between significand and significand + 1 (times the power of ten), and is only
+     * converted if both round to the same floating point number.
+     */
+    private static long eiselLemire(long significand, int exponent, boolean truncated,
+            int significandBits, int exponentBias) {
+        long bits = eiselLemire(significand, exponent, significandBits, exponentBias);
+        if (truncated && bits != NOT_CONVERTED
+                && bits != eiselLemire(significand + 1, exponent, significandBits, exponentBias)) {
+            return NOT_CONVERTED;
+        }
+        return bits;
+    }
+
+    /*
+     * Returns the bits (without sign) of the floating point number nearest to
+     * significand * 10^exponent, in the format with the given number of significand bits and
+     * exponent bias, using the Eisel-Lemire algorithm (D. Lemire, "Number Parsing at a Gigabyte
+     * per Second", 2021, as implemented in Go's strconv package): the significand is multiplied
+     * by a 128 bit approximation of the power of ten, which decides the correctly rounded result
+     * unless the product is too close to a halfway point. Returns NOT_CONVERTED in those rare
+     * cases, and if the result is subnormal or infinite; these are left to the JDK. The
+     * (unsigned) significand must not be 0.
+     */
+    private static long eiselLemire(long significand, int exponent, int significandBits, int exponentBias) {
+        if (exponent < PowersOfTen.MIN_EXPONENT || exponent > PowersOfTen.MAX_EXPONENT) {
+            return NOT_CONVERTED;
+        }
+        // Bits of the 64 bit product below the result's significand and its rounding bit.
+        int shift = 61 - significandBits;
+        long lowBits = (1L << shift) - 1;
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long normalized = significand << leadingZeros;
+        // 217706 / 2^16 approximates log2(10)
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + exponentBias - leadingZeros;
+        int index = exponent - PowersOfTen.MIN_EXPONENT;
+        long high = PowersOfTen.HIGH[index];
+        long productHigh = unsignedMultiplyHigh(normalized, high);
+        long productLow = normalized * high;
+        if ((productHigh & lowBits) == lowBits && Long.compareUnsigned(productLow + normalized, normalized) < 0) {
+            // The truncated low half of the power of ten may matter, so include it.
+            long low = PowersOfTen.LOW[index];
+            long carry = unsignedMultiplyHigh(normalized, low);
+            long mergedHigh = productHigh;
+            long mergedLow = productLow + carry;
+            if (Long.compareUnsigned(mergedLow, productLow) < 0) {
+                mergedHigh++;
+            }
+            if ((mergedHigh & lowBits) == lowBits && mergedLow == -1L
+                    && Long.compareUnsigned(normalized * low + normalized, normalized) < 0) {
+                return NOT_CONVERTED;
+            }
+            productHigh = mergedHigh;
+            productLow = mergedLow;
+        }
+        int topBit = (int) (productHigh >>> 63);
+        long mantissa = productHigh >>> (topBit + shift);
+        binaryExponent -= 1 ^ topBit;
+        if (productLow == 0 && (productHigh & lowBits) == 0 && (mantissa & 3) == 1) {
+            // Exactly halfway between two floating point numbers, as far as known.
+            return NOT_CONVERTED;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >>> (significandBits + 1) != 0) {
+            mantissa >>>= 1;
+            binaryExponent++;
+        }
+        if (binaryExponent <= 0 || binaryExponent > 2 * exponentBias) {
+            return NOT_CONVERTED;
+        }
+        return binaryExponent << significandBits | mantissa & ((1L << significandBits) - 1);
+    }
+
+    /*
+     * Returns the high 64 bits of the unsigned 128 bit product of x and y.
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p01 = x0 * y1;
+        long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+    /*
+     * 128 bit approximations (rounded down) of the powers of ten from 10^MIN_EXPONENT to
+     * 10^MAX_EXPONENT, normalized so that the highest bit is set, as HIGH and LOW 64 bit halves.
+     * Computed on first use, so parsing numbers handled by Clinger's fast path never needs them.
+     */
+    private static final class PowersOfTen {
+
+        static final int MIN_EXPONENT = -348;
+        static final int MAX_EXPONENT = 347;
+        static final long[] HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+        static final long[] LOW = new long[HIGH.length];
+
+        static {
+            BigInteger power = BigInteger.ONE;
+            for (int exponent = 0; exponent <= MAX_EXPONENT; exponent++) {
+                int bits = power.bitLength();
+                set(exponent, bits <= 128 ? power.shiftLeft(128 - bits) : power.shiftRight(bits - 128));
+                power = power.multiply(BigInteger.TEN);
+            }
+            power = BigInteger.TEN;
+            for (int exponent = -1; exponent >= MIN_EXPONENT; exponent--) {
+                set(exponent, BigInteger.ONE.shiftLeft(127 + power.bitLength()).divide(power));
+                power = power.multiply(BigInteger.TEN);
+            }
+        }
+
+        private PowersOfTen() {
+            throw new AssertionError("Not meant for instantiation");
+        }
+
+        private static void set(int exponent, BigInteger approximation) {
+            HIGH[exponent - MIN_EXPONENT] = approximation.shiftRight(64).longValue();
+            LOW[exponent - MIN_EXPONENT] = approximation.longValue();
+        }
+    }
+
+    /*
+     * Parses the trimmed range to the narrowest of Long, Double and BigDecimal holding its value:
+     * a Long for an integral value within the long range (e.g. "12" or "12.0"), a Double for a
+     * normal double value with at most MAX_DOUBLE_DIGITS significant digits, otherwise a
+     * BigDecimal. Only plain
+     * decimal numbers ([-]digits[.digits]) are handled like this; any other input is parsed by a
+     * NumberFormat for Locale.US, as before.
+     */
+    static Number parseNumber(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        int i = first;
+        boolean negative = i < last && input.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        int digitsStart = i;
+        int point = -1;
+        int significantDigits = 0;
+        int trailingZeros = 0;
+        boolean integral = true;
+        for (; i < last; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (significantDigits > 0 || c != '0') {
+                    significantDigits++;
+                    trailingZeros = c == '0' ? trailingZeros + 1 : 0;
+                }
+                if (point >= 0 && c != '0') {
+                    integral = false;
+                }
+            } else if (c == '.' && point < 0) {
+                point = i;
+            } else {
+                return parseNumberWithNumberFormat(input, first, last);
+            }
+        }
+        int integerEnd = point < 0 ? last : point;
+        int digits = last - digitsStart - (point < 0 ? 0 : 1);
+        if (digits == 0) {
+            return parseNumberWithNumberFormat(input, first, last);
+        }
+        if (significantDigits == 0) {
+            // NumberFormat parses "-0" to -0.0
+            if (negative) {
+                return Double.valueOf(-0.0d);
+            }
+            return Long.valueOf(0L);
+        }
+        if (integral) {
+            try {
+                return Long.valueOf(parseLong(input, first, integerEnd));
+            } catch (NumberFormatException e) {
+                // Outside the long range
+            }
+        }
+        if (significantDigits - trailingZeros <= MAX_DOUBLE_DIGITS) {
+            double result = parseDouble(input, first, last);
+            double magnitude = Math.abs(result);
+            if (magnitude >= Double.MIN_NORMAL && magnitude <= Double.MAX_VALUE) {
+                return Double.valueOf(result);
+            }
+        }
+        return new BigDecimal(input.subSequence(first, last).toString());
+    }
+
+    private static Number parseNumberWithNumberFormat(CharSequence input, int start, int end) {
+        String trimmed = input.subSequence(start, end).toString();
+        try {
+            return ((NumberFormat) US_NUMBER_FORMAT.clone()).parse(trimmed);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Same as new BigDecimal(...) on the trimmed range. Decimal numbers whose unscaled value fits
+     * in SIGNIFICAND_LIMIT are created with BigDecimal.valueOf(...), which shares the instances of
+     * small values. Any other input (including invalid input) is passed to new BigDecimal(...).
+     */
+    static BigDecimal parseBigDecimal(CharSequence input, int start, int end) {
+        long decimal = parseDecimal(input, start, end, Conversion.PACKED_DECIMAL);
+        if (decimal != NOT_CONVERTED) {
+            long unscaled = significand(decimal);
+            return BigDecimal.valueOf(isNegative(decimal) ? -unscaled : unscaled, -exponent(decimal));
+        }
+        return new BigDecimal(Util.trim(input, start, end).toString());
+    }
+
+    /*
+     * Same as new BigInteger(...) on the trimmed range. Integers of at most
+     * MAX_LONG_DIGITS digits are created with BigInteger.valueOf(...), which shares the
+     * instances of small values. Any other input (including invalid input) is passed to
+     * new BigInteger(...).
+     */
+    static BigInteger parseBigInteger(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        int last = trimEnd(input, first, end);
+        int i = first;
+        boolean negative = false;
+        if (i < last && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i++) == '-';
+        }
+        if (i < last && last - i <= MAX_LONG_DIGITS) {
+            long result = 0;
+            for (; i < last; i++) {
+                char c = input.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                result = result * 10 + (c - '0');
+            }
+            if (i == last) {
+                return BigInteger.valueOf(negative ? -result : result);
+            }
+        }
+        return new BigInteger(input.subSequence(first, last).toString());
+    }
+}
@@ -18,19 +18,29 @@ import java.util.List;
  */
 public final class ParserHelper extends Helper {
 
-    private final TargetType targetType;
-    private final TypeParser typeParser;
+    private final TypedParser<?> typedParser;
     private final SplitStrategy splitStrategy;
     private final SplitStrategy keyValueSplitStrategy;
     private final NullStringStrategy nullStringStrategy;
+    private final NullStringStrategyHelper nullStringStrategyHelper;
+    private final SplitStrategyHelper splitStrategyHelper;
 
     ParserHelper(TargetType targetType, TypeParser typeParser) {
+        this(targetType, typeParser, typeParser.typedParser(targetType.targetType()));
+    }
+
+    ParserHelper(TypedParser<?> typedParser) {
+        this(typedParser.targetType(), typedParser.typeParser(), typedParser);
+    }
+
+    private ParserHelper(TargetType targetType, TypeParser typeParser, TypedParser<?> typedParser) {
         super(targetType);
-        this.targetType = targetType;
-        this.typeParser = typeParser;
+        this.typedParser = typedParser;
         this.splitStrategy = typeParser.splitStrategy;
         this.nullStringStrategy = typeParser.nullStringStrategy;
         this.keyValueSplitStrategy = typeParser.keyValueSplitStrategy;
+        this.nullStringStrategyHelper = new NullStringStrategyHelper(targetType);
+        this.splitStrategyHelper = new SplitStrategyHelper(targetType);
     }
 
     /**
@@ -42,7 +52,15 @@ public final class ParserHelper extends Helper {
      * @return an instance of type.
      */
     public <T> T parse(String input, Class<T> targetType) {
-        return typeParser.parse(input, targetType);
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser.argumentParser(targetType);
+        return temp.parse(input);
     }
 
     /**
@@ -53,7 +71,48 @@ public final class ParserHelper extends Helper {
      * @return an instance of type.
      */
     public Object parseType(String input, Type targetType) {
-        return typeParser.parseType(input, targetType);
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        return typedParser.argumentParser(targetType).parse(input);
+    }
+
+    /*
+     * Same as parseType(String, Type), for a range of characters.
+     */
+    Object parseType(CharSequence input, int start, int end, Type targetType) {
+        return typedParser.argumentParser(targetType).parse(input, start, end);
+    }
+
+    TypedParser<?> typedParser(Type targetType) {
+        return typedParser.argumentParser(targetType);
+    }
+
+    boolean isParsable(Type targetType) {
+        return typedParser.argumentParser(targetType).isParsable();
+    }
+
+    EnumLookup enumLookup(Class<?> enumType) {
+        return typedParser.typeParser().enumLookup(enumType);
+    }
+
+    BooleanLookup booleanLookup() {
+        return typedParser.typeParser().booleanLookup;
+    }
+
+    Class<?> classForName(String name) throws ClassNotFoundException {
+        return typedParser.typeParser().classForName(name);
+    }
+
+    /*
+     * Called by the default DynamicParsers to have the given parser used for the target type
+     * on subsequent parses, instead of calling the DynamicParsers.
+     */
+    void resolveParser(Parser<?> parser) {
+        typedParser.resolveParser(parser);
     }
 
     /**
@@ -81,10 +140,47 @@ public final class ParserHelper extends Helper {
         if (input == null) {
             throw new NullPointerException(makeNullArgumentErrorMsg("input"));
         }
-        if (nullStringStrategy.isNullString(input, new NullStringStrategyHelper(targetType))) {
+        if (nullStringStrategy.isNullString(input, nullStringStrategyHelper)) {
             return Collections.emptyList();
         }
-        return splitStrategy.split(input, new SplitStrategyHelper(targetType));
+        return splitStrategy.split(input, splitStrategyHelper);
+    }
+
+    /**
+     * Splits the {@code input} string into sub-strings by using the {@link SplitStrategy}
+     * implementation (as registered with {@link TypeParserBuilder#setSplitStrategy(SplitStrategy)}
+     * ), and passes each sub-string to the given {@code consumer}, in order.
+     * <p>
+     * If the registered {@link SplitStrategy} is a {@link StreamingSplitStrategy}, each sub-string
+     * is passed to {@code consumer} when found. Otherwise each element of the list returned by
+     * the {@link SplitStrategy} is passed to {@code consumer}.
+     * <p>
+     * If {@code input} is the <code>NullString</code> (See {@link NullStringStrategy}), nothing is
+     * passed to {@code consumer}, and the registered {@link SplitStrategy} is not called.
+     * 
+     * @param input pre-processed input string to parse. Can be a {@code NullString}.
+     * @param consumer receiving the sub-strings.
+     * @throws NullPointerException if any given argument is null.
+     * @throws RuntimeException for any other faults that happens within the {@link SplitStrategy}.
+     * @see #split(String)
+     */
+    public void split(String input, TokenConsumer consumer) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        if (consumer == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("consumer"));
+        }
+        if (nullStringStrategy.isNullString(input, nullStringStrategyHelper)) {
+            return;
+        }
+        if (splitStrategy instanceof StreamingSplitStrategy) {
+            ((StreamingSplitStrategy) splitStrategy).split(input, splitStrategyHelper, consumer);
+            return;
+        }
+        for (String token : splitStrategy.split(input, splitStrategyHelper)) {
+            consumer.accept(token, 0, token.length());
+        }
     }
 
     /**
@@ -108,7 +204,7 @@ public final class ParserHelper extends Helper {
         if (keyValue == null) {
             throw new NullPointerException(makeNullArgumentErrorMsg("keyValue"));
         }
-        return keyValueSplitStrategy.split(keyValue, new SplitStrategyHelper(targetType));
+        return keyValueSplitStrategy.split(keyValue, splitStrategyHelper);
     }
 
     /**
@@ -124,6 +220,6 @@ public final class ParserHelper extends Helper {
         if (input == null) {
             throw new NullPointerException(makeNullArgumentErrorMsg("input"));
         }
-        return nullStringStrategy.isNullString(input, new NullStringStrategyHelper(targetType));
+        return nullStringStrategy.isNullString(input, nullStringStrategyHelper);
     }
 }
@@ -10,49 +10,46 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.NumberFormat;
-import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
-enum Parsers implements Parser<Object> {
-	BYTE(Byte.class, byte.class, (input, helper) -> Byte.valueOf(input.trim())),
-	INTEGER(Integer.class, int.class, (input, helper) -> Integer.valueOf(input.trim())),
-	LONG(Long.class, long.class, (input, helper) -> Long.valueOf(input.trim())),
-	SHORT(Short.class, short.class, (input, helper) -> Short.valueOf(input.trim())),
-	FLOAT(Float.class, float.class, (input, helper) -> Float.valueOf(input)),
-	DOUBLE(Double.class, double.class, (input, helper) -> Double.valueOf(input)),
-	BOOLEAN(Boolean.class, boolean.class, (input, helper) -> {
-		String value = input.trim().toLowerCase();
-		if ("true".equals(value)) {
-			return Boolean.TRUE;
-		} else if ("false".equals(value)) {
-			return Boolean.FALSE;
-		}
-		String message = "\"%s\" is not parsable to a Boolean.";
-		throw new IllegalArgumentException(String.format(message, input));}),
+enum Parsers implements CharSequenceParser<Object> {
+	BYTE(Byte.class, byte.class, (input, start, end, helper) -> Byte.valueOf(Numbers.parseByte(input, start, end))),
+	INTEGER(Integer.class, int.class, (input, start, end, helper) -> Integer.valueOf(Numbers.parseInt(input, start, end))),
+	LONG(Long.class, long.class, (input, start, end, helper) -> Long.valueOf(Numbers.parseLong(input, start, end))),
+	SHORT(Short.class, short.class, (input, start, end, helper) -> Short.valueOf(Numbers.parseShort(input, start, end))),
+	FLOAT(Float.class, float.class, (input, start, end, helper) -> Float.valueOf(Numbers.parseFloat(input, start, end))),
+	DOUBLE(Double.class, double.class, (input, start, end, helper) -> Double.valueOf(Numbers.parseDouble(input, start, end))),
+	BOOLEAN(Boolean.class, boolean.class, (input, start, end, helper) -> Boolean.valueOf(helper.booleanLookup().parse(input, start, end))),
 	CHARCTER(Character.class, char.class, (input, helper) -> {
         if (input.length() == 1) {
             return Character.valueOf(input.charAt(0));
         }
         String message = "\"%s\" must only contain a single character.";
         throw new IllegalArgumentException(String.format(message, input));}),
-    BIG_INTEGER(BigInteger.class, (input, helper) -> new BigInteger(input.trim())),
-    BIG_DECIMAL(BigDecimal.class, (input, helper) -> {
+    BIG_INTEGER(BigInteger.class, (input, start, end, helper) -> Numbers.parseBigInteger(input, start, end)),
+    BIG_DECIMAL(BigDecimal.class, (input, start, end, helper) -> {
         try {
-            return new BigDecimal(input.trim());
+            return Numbers.parseBigDecimal(input, start, end);
         } catch (NumberFormatException e) {
             /*
              * The NumberFormatException thrown by BigDecimal contains
              * an empty error message. The below is done to address that.
              */
-            String message = "NumberFormatException For input string: \"" + input + "\"";
+            String message = "NumberFormatException For input string: \"" + input.subSequence(start, end) + "\"";
             NumberFormatException e2 = new NumberFormatException(message);
             e2.setStackTrace(e.getStackTrace());
             throw e2;
@@ -72,27 +69,19 @@ enum Parsers implements Parser<Object> {
 	FILE(File.class, (input, helper) -> new File(input.trim())),
     STRING(String.class, (input, helper) -> input),
     OBJECT(Object.class, (input, helper) -> input),
-    NUMBER(Number.class, (input, helper) -> {
-    	/*
-    	 * Number formats are generally not synchronized. It is recommended to create 
-    	 * separate format instances for each thread. If multiple threads access a 
-    	 * format concurrently, it must be synchronized externally.
-    	 */
-    	final ThreadLocal<NumberFormat> NUMBER_FORMAT = new ThreadLocal<NumberFormat>(){
-    		@Override 
-    		protected NumberFormat initialValue(){
-    			return NumberFormat.getInstance(Locale.US);
-    		}
-    	};
-		try {
-			return NUMBER_FORMAT.get().parse(input.trim());
-		} catch (ParseException e) {
-			throw new IllegalArgumentException(e.getMessage(), e);
-		}}),
+    NUMBER(Number.class, (input, start, end, helper) -> Numbers.parseNumber(input, start, end)),
     PATH(Path.class, (input,helper) -> Paths.get(input.trim())),
-	LOCAL_DATE(LocalDate.class, (input, helper) -> LocalDate.parse(input.trim())),
-	LOCAL_TIME(LocalTime.class, (input, helper) -> LocalTime.parse(input.trim())),
-	LOCA_DATE_TIME(LocalDateTime.class, (input, helper) -> LocalDateTime.parse(input.trim()));
+	LOCAL_DATE(LocalDate.class, (input, start, end, helper) -> IsoDateTimes.parseLocalDate(input, start, end)),
+	LOCAL_TIME(LocalTime.class, (input, start, end, helper) -> IsoDateTimes.parseLocalTime(input, start, end)),
+	LOCA_DATE_TIME(LocalDateTime.class, (input, start, end, helper) -> IsoDateTimes.parseLocalDateTime(input, start, end)),
+	INSTANT(Instant.class, (input, start, end, helper) -> Instant.parse(Util.trim(input, start, end))),
+	DURATION(Duration.class, (input, start, end, helper) -> Duration.parse(Util.trim(input, start, end))),
+	PERIOD(Period.class, (input, start, end, helper) -> Period.parse(Util.trim(input, start, end))),
+	ZONED_DATE_TIME(ZonedDateTime.class, (input, start, end, helper) -> ZonedDateTime.parse(Util.trim(input, start, end))),
+	OFFSET_DATE_TIME(OffsetDateTime.class, (input, start, end, helper) -> OffsetDateTime.parse(Util.trim(input, start, end))),
+	ZONE_ID(ZoneId.class, (input, start, end, helper) -> TemporalParsers.zoneId(input, start, end)),
+	YEAR(Year.class, (input, start, end, helper) -> Year.parse(Util.trim(input, start, end))),
+	YEAR_MONTH(YearMonth.class, (input, start, end, helper) -> YearMonth.parse(Util.trim(input, start, end)));
 
 	private static final Map<Type, Parser<?>> DEFAULT_PARSERS;
 	private List<Type> types = new ArrayList<>();
@@ -109,11 +98,27 @@ enum Parsers implements Parser<Object> {
 		types.add(type1);
 	}
 
+	private Parsers(Type type, CharSequenceParser<Object> parser) {
+		this(type, (Parser<Object>) parser);
+	}
+
+	private Parsers(Type type0, Type type1, CharSequenceParser<Object> parser) {
+		this(type0, type1, (Parser<Object>) parser);
+	}
+
 	@Override
 	public Object parse(String input, ParserHelper helper) {
 		return parser.parse(input, helper);
 	}
 
+	@Override
+	public Object parse(CharSequence input, int start, int end, ParserHelper helper) {
+		if (parser instanceof CharSequenceParser) {
+			return ((CharSequenceParser<Object>) parser).parse(input, start, end, helper);
+		}
+		return parser.parse(input.subSequence(start, end).toString(), helper);
+	}
+
 	static {
 		DEFAULT_PARSERS = new LinkedHashMap<Type, Parser<?>>();
 		for (Parsers parser : values()) {
@@ -0,0 +1,249 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.function.IntFunction;
+
+/*
+ * Parses the elements of primitive arrays (e.g. int[]) directly into the array, without boxing
+ * them and without java.lang.reflect.Array. Only used when the built-in Parser is registered for
+ * the component type (and the default InputPreprocessor and NullStringStrategy are used), as the
+ * elements are parsed the same way as by that Parser.
+ */
+final class PrimitiveArrays {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private PrimitiveArrays() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    /*
+     * Checks if the elements of an array of the given component type can be parsed by
+     * parse(...).
+     */
+    static boolean canParse(Class<?> componentType, ParserHelper helper) {
+        return componentType.isPrimitive() && helper.typedParser(componentType).usesDefaultParser();
+    }
+
+    static Object parse(String input, Class<?> componentType, ParserHelper helper) {
+        ArrayBuilder<?> builder = newArrayBuilder(componentType, helper);
+        helper.split(input, builder);
+        return builder.toArray();
+    }
+
+    private static ArrayBuilder<?> newArrayBuilder(Class<?> componentType, ParserHelper helper) {
+        if (componentType == int.class) {
+            return new IntArrayBuilder(helper);
+        } else if (componentType == long.class) {
+            return new LongArrayBuilder(helper);
+        } else if (componentType == double.class) {
+            return new DoubleArrayBuilder(helper);
+        } else if (componentType == float.class) {
+            return new FloatArrayBuilder(helper);
+        } else if (componentType == short.class) {
+            return new ShortArrayBuilder(helper);
+        } else if (componentType == byte.class) {
+            return new ByteArrayBuilder(helper);
+        } else if (componentType == boolean.class) {
+            return new BooleanArrayBuilder(helper);
+        } else if (componentType == char.class) {
+            return new CharArrayBuilder(helper);
+        }
+        throw new IllegalArgumentException("Not a primitive type: " + componentType);
+    }
+
+    /*
+     * Collects the parsed elements in an array of type A (e.g. int[]), growing it as needed.
+     * Subclasses only store the elements.
+     */
+    private static abstract class ArrayBuilder<A> implements TokenConsumer {
+
+        private final ParserHelper helper;
+        private final Class<?> componentType;
+        private final IntFunction<A> newArray;
+        A array;
+        private int capacity;
+        private int size;
+
+        ArrayBuilder(ParserHelper helper, Class<?> componentType, IntFunction<A> newArray) {
+            this.helper = helper;
+            this.componentType = componentType;
+            this.newArray = newArray;
+            this.array = newArray.apply(0);
+        }
+
+        @Override
+        public final void accept(String source, int start, int end) {
+            if (size == capacity) {
+                array = copyOf(Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            try {
+                set(size, source, start, end);
+            } catch (RuntimeException e) {
+                /*
+                 * Rare error path: parse the element again through the TypeParser, either
+                 * failing with the same TypeParserException as for other arrays, or parsing an
+                 * input not handled by set(int, String, int, int).
+                 */
+                set(size, helper.parseType(source, start, end, componentType));
+            }
+            size++;
+        }
+
+        final Object toArray() {
+            return size == capacity ? array : copyOf(size);
+        }
+
+        private A copyOf(int newCapacity) {
+            A result = newArray.apply(newCapacity);
+            System.arraycopy(array, 0, result, 0, size);
+            capacity = newCapacity;
+            return result;
+        }
+
+        abstract void set(int index, String source, int start, int end);
+
+        abstract void set(int index, Object value);
+    }
+
+    private static final class IntArrayBuilder extends ArrayBuilder<int[]> {
+
+        IntArrayBuilder(ParserHelper helper) {
+            super(helper, int.class, int[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseInt(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Integer) value;
+        }
+    }
+
+    private static final class LongArrayBuilder extends ArrayBuilder<long[]> {
+
+        LongArrayBuilder(ParserHelper helper) {
+            super(helper, long.class, long[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseLong(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Long) value;
+        }
+    }
+
+    private static final class ShortArrayBuilder extends ArrayBuilder<short[]> {
+
+        ShortArrayBuilder(ParserHelper helper) {
+            super(helper, short.class, short[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseShort(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Short) value;
+        }
+    }
+
+    private static final class ByteArrayBuilder extends ArrayBuilder<byte[]> {
+
+        ByteArrayBuilder(ParserHelper helper) {
+            super(helper, byte.class, byte[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseByte(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Byte) value;
+        }
+    }
+
+    private static final class DoubleArrayBuilder extends ArrayBuilder<double[]> {
+
+        DoubleArrayBuilder(ParserHelper helper) {
+            super(helper, double.class, double[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseDouble(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Double) value;
+        }
+    }
+
+    private static final class FloatArrayBuilder extends ArrayBuilder<float[]> {
+
+        FloatArrayBuilder(ParserHelper helper) {
+            super(helper, float.class, float[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = Numbers.parseFloat(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Float) value;
+        }
+    }
+
+    private static final class BooleanArrayBuilder extends ArrayBuilder<boolean[]> {
+
+        private final BooleanLookup booleanLookup;
+
+        BooleanArrayBuilder(ParserHelper helper) {
+            super(helper, boolean.class, boolean[]::new);
+            booleanLookup = helper.booleanLookup();
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            array[index] = booleanLookup.parse(source, start, end);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Boolean) value;
+        }
+    }
+
+    private static final class CharArrayBuilder extends ArrayBuilder<char[]> {
+
+        CharArrayBuilder(ParserHelper helper) {
+            super(helper, char.class, char[]::new);
+        }
+
+        @Override
+        void set(int index, String source, int start, int end) {
+            if (end - start != 1) {
+                throw new IllegalArgumentException("Not a single character.");
+            }
+            array[index] = source.charAt(start);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            array[index] = (Character) value;
+        }
+    }
+}
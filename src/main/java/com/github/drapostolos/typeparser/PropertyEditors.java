@@ -0,0 +1,47 @@
+package com.github.drapostolos.typeparser;
+
+import java.beans.PropertyEditor;
+import java.beans.PropertyEditorManager;
+
+/*
+ * Caches the PropertyEditors found through PropertyEditorManager.findEditor(...) per target
+ * class, including target classes without an editor. PropertyEditors are stateful, so each
+ * thread gets its own editor instance, which is reused for subsequent parses in that thread.
+ * Editors registered in PropertyEditorManager after a target class was first looked up are
+ * not seen.
+ */
+final class PropertyEditors {
+
+    private static final ThreadLocal<PropertyEditor> NO_EDITOR = new ThreadLocal<PropertyEditor>();
+
+    private static final ClassValue<ThreadLocal<PropertyEditor>> EDITORS =
+            new ClassValue<ThreadLocal<PropertyEditor>>() {
+
+                @Override
+                protected ThreadLocal<PropertyEditor> computeValue(final Class<?> type) {
+                    if (PropertyEditorManager.findEditor(type) == null) {
+                        return NO_EDITOR;
+                    }
+                    return ThreadLocal.withInitial(() -> PropertyEditorManager.findEditor(type));
+                }
+            };
+
+    private PropertyEditors() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    /*
+     * Returns true if there is a PropertyEditor for the given target class.
+     */
+    static boolean hasEditor(Class<?> type) {
+        return EDITORS.get(type) != NO_EDITOR;
+    }
+
+    /*
+     * Returns the PropertyEditor of the current thread for the given target class, or null if
+     * there is no PropertyEditor for it.
+     */
+    static PropertyEditor editor(Class<?> type) {
+        return EDITORS.get(type).get();
+    }
+}
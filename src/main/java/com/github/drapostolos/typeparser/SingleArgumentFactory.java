@@ -0,0 +1,128 @@
+package com.github.drapostolos.typeparser;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * A static factory method (or constructor) taking a single argument, found through
+ * reflection and bound to a MethodHandle when first invoked. Lookups are cached per
+ * class in ClassValues, so cached entries do not prevent classes from being unloaded.
+ */
+final class SingleArgumentFactory {
+
+    private static final MethodType GENERIC_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<List<SingleArgumentFactory>> STATIC_FACTORY_METHODS =
+            new ClassValue<List<SingleArgumentFactory>>() {
+
+                @Override
+                protected List<SingleArgumentFactory> computeValue(Class<?> type) {
+                    List<SingleArgumentFactory> result = new ArrayList<SingleArgumentFactory>();
+                    for (Method m : type.getDeclaredMethods()) {
+                        if (isStaticFactoryMethod(m)) {
+                            result.add(of(m));
+                        }
+                    }
+                    return unmodifiableList(result);
+                }
+            };
+
+    private static final ClassValue<List<SingleArgumentFactory>> SINGLE_ARGUMENT_CONSTRUCTORS =
+            new ClassValue<List<SingleArgumentFactory>>() {
+
+                @Override
+                protected List<SingleArgumentFactory> computeValue(Class<?> type) {
+                    List<SingleArgumentFactory> result = new ArrayList<SingleArgumentFactory>();
+                    for (Constructor<?> c : type.getDeclaredConstructors()) {
+                        if (c.getGenericParameterTypes().length == 1) {
+                            result.add(of(c));
+                        }
+                    }
+                    return unmodifiableList(result);
+                }
+            };
+
+    private final Member member;
+    private final Type argumentType;
+    private volatile MethodHandle handle;
+
+    private SingleArgumentFactory(Member member, Type argumentType) {
+        this.member = member;
+        this.argumentType = argumentType;
+    }
+
+    private static SingleArgumentFactory of(Method method) {
+        return new SingleArgumentFactory(method, method.getGenericParameterTypes()[0]);
+    }
+
+    private static SingleArgumentFactory of(Constructor<?> constructor) {
+        return new SingleArgumentFactory(constructor, constructor.getGenericParameterTypes()[0]);
+    }
+
+    /*
+     * Returns the static factory methods declared in the given type, i.e. static methods
+     * taking a single argument and returning an instance of the given type.
+     */
+    static List<SingleArgumentFactory> staticFactoryMethods(Class<?> type) {
+        return STATIC_FACTORY_METHODS.get(type);
+    }
+
+    /*
+     * Returns the constructors declared in the given type taking a single argument.
+     */
+    static List<SingleArgumentFactory> singleArgumentConstructors(Class<?> type) {
+        return SINGLE_ARGUMENT_CONSTRUCTORS.get(type);
+    }
+
+    private static boolean isStaticFactoryMethod(Method m) {
+        return isStatic(m.getModifiers()) &&
+                m.getParameterTypes().length == 1 &&
+                m.getDeclaringClass().isAssignableFrom(m.getReturnType());
+    }
+
+    Member member() {
+        return member;
+    }
+
+    Type argumentType() {
+        return argumentType;
+    }
+
+    Object invoke(Object argument) throws Throwable {
+        MethodHandle h = handle;
+        if (h == null) {
+            h = bind();
+            handle = h;
+        }
+        return (Object) h.invokeExact(argument);
+    }
+
+    /*
+     * Binds the member on its first invocation only, so that members which are never
+     * selected are neither made accessible nor unreflected.
+     */
+    private MethodHandle bind() {
+        try {
+            if (member instanceof Method) {
+                Method method = (Method) member;
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(GENERIC_TYPE);
+            }
+            Constructor<?> constructor = (Constructor<?>) member;
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(GENERIC_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
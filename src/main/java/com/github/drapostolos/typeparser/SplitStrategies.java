@@ -0,0 +1,186 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.Util.makeNullArgumentErrorMsg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Factory methods for commonly used {@link SplitStrategy} implementations.
+ * <p>
+ * The returned {@link SplitStrategy} implementations split the input string the same way as
+ * {@link String#split(String, int)} does for a literal delimiter, but without the regular expression
+ * machinery. They implement {@link StreamingSplitStrategy}. Example: <br>
+ * <code>
+ * TypeParser parser = TypeParser.newBuilder()<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.setSplitStrategy(SplitStrategies.literal(';'))<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.build();<br>
+ * </code>
+ * 
+ * @see <a href="https://github.com/drapostolos/type-parser/wiki"
+ *      target="_blank">User-Guide</a>
+ */
+public final class SplitStrategies {
+
+    private SplitStrategies() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    /**
+     * Returns a {@link SplitStrategy} splitting the input string around each occurrence of the
+     * given {@code delimiter}. Trailing empty strings are not included, as done by
+     * {@link String#split(String)}.
+     * 
+     * @param delimiter the delimiting character.
+     * @return {@link SplitStrategy} splitting by {@code delimiter}.
+     */
+    public static SplitStrategy literal(char delimiter) {
+        return new LiteralSplitStrategy(String.valueOf(delimiter), 0);
+    }
+
+    /**
+     * Returns a {@link SplitStrategy} splitting the input string around each occurrence of the
+     * given {@code delimiter}. Trailing empty strings are not included, as done by
+     * {@link String#split(String)}.
+     * 
+     * @param delimiter the delimiting string (not a regular expression).
+     * @return {@link SplitStrategy} splitting by {@code delimiter}.
+     * @throws NullPointerException if given argument is null.
+     * @throws IllegalArgumentException if given {@code delimiter} is empty.
+     */
+    public static SplitStrategy literal(String delimiter) {
+        return literal(delimiter, 0);
+    }
+
+    /**
+     * Returns a {@link SplitStrategy} splitting the input string around occurrences of the
+     * given {@code delimiter}. The {@code limit} argument controls the number of substrings, as
+     * documented in {@link String#split(String, int)}.
+     * <p>
+     * Example, this returns the {@link SplitStrategy} used by default to split map entries into
+     * key and value: <code>SplitStrategies.literal('=', 2)</code>
+     * 
+     * @param delimiter the delimiting character.
+     * @param limit max number of substrings (if positive).
+     * @return {@link SplitStrategy} splitting by {@code delimiter}.
+     */
+    public static SplitStrategy literal(char delimiter, int limit) {
+        return new LiteralSplitStrategy(String.valueOf(delimiter), limit);
+    }
+
+    /**
+     * Returns a {@link SplitStrategy} splitting the input string around occurrences of the
+     * given {@code delimiter}. The {@code limit} argument controls the number of substrings, as
+     * documented in {@link String#split(String, int)}.
+     * 
+     * @param delimiter the delimiting string (not a regular expression).
+     * @param limit max number of substrings (if positive).
+     * @return {@link SplitStrategy} splitting by {@code delimiter}.
+     * @throws NullPointerException if given {@code delimiter} is null.
+     * @throws IllegalArgumentException if given {@code delimiter} is empty.
+     */
+    public static SplitStrategy literal(String delimiter, int limit) {
+        if (delimiter == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("delimiter"));
+        }
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("delimiter must not be empty.");
+        }
+        return new LiteralSplitStrategy(delimiter, limit);
+    }
+
+    /*
+     * Scans the input for the delimiter with String.indexOf(...), and either passes the
+     * substrings to a TokenConsumer, or collects them in a list presized to the number of
+     * substrings.
+     */
+    private static final class LiteralSplitStrategy implements StreamingSplitStrategy {
+
+        private final String delimiter;
+        private final int limit;
+
+        LiteralSplitStrategy(String delimiter, int limit) {
+            this.delimiter = delimiter;
+            this.limit = limit;
+        }
+
+        @Override
+        public List<String> split(String input, SplitStrategyHelper helper) {
+            int next = indexOf(input, 0);
+            if (next < 0 || limit == 1) {
+                return Collections.singletonList(input);
+            }
+            List<String> result = new ArrayList<String>(countSubstrings(input, next));
+            int start = 0;
+            while (next >= 0 && (limit <= 0 || result.size() < limit - 1)) {
+                result.add(input.substring(start, next));
+                start = next + delimiter.length();
+                next = indexOf(input, start);
+            }
+            result.add(input.substring(start));
+            if (limit == 0) {
+                // Remove trailing empty strings, as done by String.split(...).
+                int size = result.size();
+                while (size > 0 && result.get(size - 1).isEmpty()) {
+                    result.remove(--size);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void split(String input, SplitStrategyHelper helper, TokenConsumer consumer) {
+            int next = indexOf(input, 0);
+            if (next < 0 || limit == 1) {
+                consumer.accept(input, 0, input.length());
+                return;
+            }
+            int start = 0;
+            int count = 0;
+            // Empty substrings not yet passed to consumer, as trailing ones are removed if limit is 0.
+            int pendingEmpty = 0;
+            while (true) {
+                boolean last = next < 0 || (limit > 0 && count == limit - 1);
+                int end = last ? input.length() : next;
+                if (limit == 0 && start == end) {
+                    pendingEmpty++;
+                } else {
+                    for (; pendingEmpty > 0; pendingEmpty--) {
+                        consumer.accept(input, start, start);
+                    }
+                    consumer.accept(input, start, end);
+                }
+                if (last) {
+                    return;
+                }
+                count++;
+                start = next + delimiter.length();
+                next = indexOf(input, start);
+            }
+        }
+
+        private int countSubstrings(String input, int first) {
+            int count = 1;
+            for (int i = first; i >= 0; i = indexOf(input, i + delimiter.length())) {
+                count++;
+                if (count == limit) {
+                    break;
+                }
+            }
+            return count;
+        }
+
+        private int indexOf(String input, int fromIndex) {
+            if (delimiter.length() == 1) {
+                return input.indexOf(delimiter.charAt(0), fromIndex);
+            }
+            return input.indexOf(delimiter, fromIndex);
+        }
+
+        @Override
+        public String toString() {
+            return "SplitStrategies.literal(\"" + delimiter + "\", " + limit + ")";
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link SplitStrategy} which passes the substrings of the input string to a
+ * {@link TokenConsumer} as they are found, instead of collecting them in a list. When parsing to
+ * {@link Collection}, {@link Map} and Array types, the {@link TypeParser} parses each substring
+ * when received, so the substrings of large input strings are never held in memory at once.
+ * <p>
+ * Implementations of this interface are expected to be immutable.
+ * 
+ * @see <a href="https://github.com/drapostolos/type-parser/wiki"
+ *      target="_blank">User-Guide</a>
+ * @see SplitStrategies
+ */
+@FunctionalInterface
+public interface StreamingSplitStrategy extends SplitStrategy {
+
+    /**
+     * Splits {@code input} string and passes each substring, in order, to the given
+     * {@code consumer}.
+     * 
+     * @param input pre-processed input string to parse. Will never be {@code null} or a
+     *        {@code NullString} (See {@link NullStringStrategy}).
+     * @param helper Helper class injected automatically by the {@link TypeParser}.
+     * @param consumer receiving the substrings.
+     * @see ParserHelper#split(String, TokenConsumer)
+     */
+    void split(String input, SplitStrategyHelper helper, TokenConsumer consumer);
+
+    /**
+     * Splits {@code input} string and returns a list of substrings, as passed to the
+     * {@link TokenConsumer} by {@link #split(String, SplitStrategyHelper, TokenConsumer)}.
+     */
+    @Override
+    default List<String> split(String input, SplitStrategyHelper helper) {
+        List<String> result = new ArrayList<String>();
+        split(input, helper, (source, start, end) -> result.add(source.substring(start, end)));
+        return result;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.github.drapostolos.typeparser;
 
+import static java.util.Collections.unmodifiableList;
+
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
@@ -8,35 +10,61 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/*
+ * Immutable metadata of a target type. All of it is computed once when created, and
+ * the instance is held by the TypedParser compiled for the type, so no reflection work
+ * is repeated per parsed string (e.g. for each element of a collection).
+ */
 final class TargetType {
 
     private final Type targetType;
-    private Class<?> rawTargetType;
-    private List<Class<?>> parameterizedClassArguments;
+    private final Class<?> rawTargetType;
+    private final Class<?> componentClass;
+    private final boolean primitive;
+    private final List<Type> parameterizedTypeArguments;
+    private final List<Class<?>> parameterizedClassArguments;
+    /*
+     * First type argument without a raw class, or null if there is none.
+     */
+    private final Type illegalTypeArgument;
 
     TargetType(Type targetType) {
         this.targetType = targetType;
+        this.rawTargetType = extractRawTargetType();
+        this.componentClass = rawTargetType.getComponentType();
+        this.primitive = targetType instanceof Class && ((Class<?>) targetType).isPrimitive();
+        if (isTargetTypeParameterized()) {
+            Type[] typeArguments = ((ParameterizedType) targetType).getActualTypeArguments();
+            this.parameterizedTypeArguments = unmodifiableList(Arrays.asList(typeArguments));
+            List<Class<?>> classArguments = new ArrayList<Class<?>>();
+            this.illegalTypeArgument = extractParameterizedClassArguments(typeArguments, classArguments);
+            this.parameterizedClassArguments = unmodifiableList(classArguments);
+        } else {
+            this.parameterizedTypeArguments = null;
+            this.parameterizedClassArguments = null;
+            this.illegalTypeArgument = null;
+        }
     }
-    
+
     boolean isTargetTypeParameterized() {
-        if (targetType instanceof ParameterizedType) {
-            return true;
-        }
-        return false;
+        return targetType instanceof ParameterizedType;
     }
 
     Type targetType() {
         return targetType;
     }
 
-    Class<?> rawTargetType(){
-        if(rawTargetType == null){
-            rawTargetType = extractRawTargetType();
-        }
+    Class<?> rawTargetType() {
         return rawTargetType;
-        
     }
-    
+
+    /*
+     * Returns the component type of the raw target type, or null if it is not an array.
+     */
+    Class<?> componentClass() {
+        return componentClass;
+    }
+
     private Class<?> extractRawTargetType() {
         if (targetType instanceof Class) {
             return (Class<?>) targetType;
@@ -59,20 +87,22 @@ final class TargetType {
 
     List<Class<?>> getParameterizedClassArguments() {
         if (parameterizedClassArguments == null) {
-            parameterizedClassArguments = extractParameterizedClassArguments();
+            throw notParameterized();
         }
-        return parameterizedClassArguments;
-    }
-
-    List<Class<?>> extractParameterizedClassArguments() {
-        if (!(isTargetTypeParameterized())) {
-            String message = String.format("type must be parameterized: %s", Util.objectToString(targetType));
+        if (illegalTypeArgument != null) {
+            String message = "That type contains illegal type argument: '%s' [%s]";
+            message = String.format(message, illegalTypeArgument, illegalTypeArgument.getClass());
             throw new UnsupportedOperationException(message);
         }
+        return parameterizedClassArguments;
+    }
 
-        ParameterizedType pt = (ParameterizedType) targetType;
-        ArrayList<Class<?>> result = new ArrayList<Class<?>>();
-        for (Type typeArgument : pt.getActualTypeArguments()) {
+    /*
+     * Adds the raw classes of the given type arguments to result. Returns the first illegal
+     * type argument, or null if there is none.
+     */
+    private static Type extractParameterizedClassArguments(Type[] typeArguments, List<Class<?>> result) {
+        for (Type typeArgument : typeArguments) {
             if (typeArgument instanceof Class) {
                 result.add((Class<?>) typeArgument);
                 continue;
@@ -84,11 +114,9 @@ final class TargetType {
                     continue;
                 }
             }
-            String message = "That type contains illegal type argument: '%s' [%s]";
-            message = String.format(message, typeArgument, typeArgument.getClass());
-            throw new UnsupportedOperationException(message);
+            return typeArgument;
         }
-        return result;
+        return null;
     }
 
     @Override
@@ -96,17 +124,20 @@ final class TargetType {
         return targetType.toString();
     }
 
-	boolean isPrimitive() {
-		return targetType instanceof Class && ((Class<?>) targetType).isPrimitive();
-	}
+    boolean isPrimitive() {
+        return primitive;
+    }
 
-	List<Type> getParameterizedTypeArguments() {
-        if (!(isTargetTypeParameterized())) {
-            String message = String.format("type must be parameterized: %s", Util.objectToString(targetType));
-            throw new UnsupportedOperationException(message);
+    List<Type> getParameterizedTypeArguments() {
+        if (parameterizedTypeArguments == null) {
+            throw notParameterized();
         }
-        ParameterizedType pt = (ParameterizedType) targetType;
-        return Arrays.asList(pt.getActualTypeArguments());
-	}
+        return parameterizedTypeArguments;
+    }
+
+    private UnsupportedOperationException notParameterized() {
+        String message = String.format("type must be parameterized: %s", Util.objectToString(targetType));
+        return new UnsupportedOperationException(message);
+    }
 
 }
@@ -0,0 +1,95 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.Util.trimEnd;
+import static com.github.drapostolos.typeparser.Util.trimStart;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Parsers for java.time types, other than the ISO fast paths in IsoDateTimes.
+ */
+final class TemporalParsers {
+
+    private static final int ZONE_ID_CACHE_CAPACITY = 1024;
+    /*
+     * ZoneId.of(...) looks up (and for offsets, parses) the id on every call. The number of
+     * distinct ids in use is small, so parsed ZoneIds are kept and shared.
+     */
+    private static final BoundedCache<String, ZoneId> ZONE_IDS =
+            new BoundedCache<String, ZoneId>(ZONE_ID_CACHE_CAPACITY);
+    /*
+     * Queries obtaining an instance of the supported types from the result of a
+     * DateTimeFormatter.
+     */
+    private static final Map<Class<?>, TemporalQuery<?>> QUERIES = new LinkedHashMap<Class<?>, TemporalQuery<?>>();
+
+    static {
+        QUERIES.put(LocalDate.class, LocalDate::from);
+        QUERIES.put(LocalTime.class, LocalTime::from);
+        QUERIES.put(LocalDateTime.class, LocalDateTime::from);
+        QUERIES.put(ZonedDateTime.class, ZonedDateTime::from);
+        QUERIES.put(OffsetDateTime.class, OffsetDateTime::from);
+        QUERIES.put(OffsetTime.class, OffsetTime::from);
+        QUERIES.put(Instant.class, Instant::from);
+        QUERIES.put(Year.class, Year::from);
+        QUERIES.put(YearMonth.class, YearMonth::from);
+        QUERIES.put(MonthDay.class, MonthDay::from);
+    }
+
+    private TemporalParsers() {
+        throw new AssertionError("Not meant for instantiation");
+    }
+
+    /*
+     * Same as ZoneId.of(input.trim()), sharing the ZoneIds parsed before.
+     */
+    static ZoneId zoneId(CharSequence input, int start, int end) {
+        int first = trimStart(input, start, end);
+        String id = input.subSequence(first, trimEnd(input, first, end)).toString();
+        ZoneId result = ZONE_IDS.get(id);
+        if (result == null) {
+            result = ZoneId.of(id);
+            ZONE_IDS.put(id, result);
+        }
+        return result;
+    }
+
+    /*
+     * Returns a Parser parsing the trimmed input to the given type with the given formatter.
+     */
+    static <T> Parser<T> formatterParser(Class<T> targetType, DateTimeFormatter formatter) {
+        @SuppressWarnings("unchecked")
+        TemporalQuery<T> query = (TemporalQuery<T>) QUERIES.get(targetType);
+        if (query == null) {
+            String message = "Cannot register DateTimeFormatter for type '%s'. Supported types: %s";
+            throw new IllegalArgumentException(String.format(message, targetType.getName(), supportedTypes()));
+        }
+        CharSequenceParser<T> parser = (input, start, end, helper) -> {
+            int first = trimStart(input, start, end);
+            return formatter.parse(input.subSequence(first, trimEnd(input, first, end)), query);
+        };
+        return parser;
+    }
+
+    private static String supportedTypes() {
+        StringBuilder result = new StringBuilder();
+        for (Class<?> type : QUERIES.keySet()) {
+            result.append(result.length() == 0 ? "" : ", ").append(type.getSimpleName());
+        }
+        return result.toString();
+    }
+}
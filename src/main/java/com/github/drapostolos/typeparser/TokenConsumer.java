@@ -0,0 +1,25 @@
+package com.github.drapostolos.typeparser;
+
+/**
+ * Callback interface receiving the substrings (tokens) found by a {@link StreamingSplitStrategy},
+ * one at a time, in order.
+ * 
+ * @see <a href="https://github.com/drapostolos/type-parser/wiki"
+ *      target="_blank">User-Guide</a>
+ * @see StreamingSplitStrategy
+ * @see ParserHelper#split(String, TokenConsumer)
+ */
+@FunctionalInterface
+public interface TokenConsumer {
+
+    /**
+     * Receives the next token, i.e. the substring of {@code source} from index {@code start}
+     * (inclusive) to index {@code end} (exclusive).
+     * 
+     * @param source string containing the token. Usually the input string being split.
+     * @param start index of the first character of the token.
+     * @param end index after the last character of the token.
+     */
+    void accept(String source, int start, int end);
+
+}
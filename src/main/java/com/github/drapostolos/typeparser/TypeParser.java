@@ -1,7 +1,5 @@
 package com.github.drapostolos.typeparser;
 
-import static com.github.drapostolos.typeparser.DynamicParser.TRY_NEXT;
-import static com.github.drapostolos.typeparser.Util.formatErrorMessage;
 import static com.github.drapostolos.typeparser.Util.makeNullArgumentErrorMsg;
 
 import java.lang.reflect.Type;
@@ -21,21 +19,50 @@ import java.util.Map;
  */
 public final class TypeParser {
 
+    /*
+     * Max number of target types for which a compiled TypedParser is remembered.
+     */
+    private static final int TYPED_PARSER_CACHE_CAPACITY = 1024;
+
     final Map<Type, Parser<?>> parsers;
     final List<DynamicParser> dynamicParsers;
+    final int clientProvidedDynamicParserCount;
+    private final BoundedCache<Type, TypedParser<?>> typedParsers;
     final SplitStrategy splitStrategy;
     final SplitStrategy keyValueSplitStrategy;
     final InputPreprocessor inputPreprocessor;
     final NullStringStrategy nullStringStrategy;
+    /*
+     * True if the default InputPreprocessor and NullStringStrategy are used, i.e. if a range of
+     * characters can be parsed without first copying it into a String.
+     */
+    final boolean defaultInputHandling;
+    private final boolean caseInsensitiveEnums;
+    private final Map<Class<?>, EnumLookup> enumLookups;
+    final BooleanLookup booleanLookup;
+    private final ClassNames classNames;
 
     TypeParser(TypeParserBuilder builder) {
         parsers = new HashMap<Type, Parser<?>>(builder.parsers);
         dynamicParsers = new ArrayList<DynamicParser>(builder.clientProvidedDynamicParsers);
+        clientProvidedDynamicParserCount = dynamicParsers.size();
         dynamicParsers.addAll(builder.defaultDynamicParsers);
+        typedParsers = new BoundedCache<Type, TypedParser<?>>(TYPED_PARSER_CACHE_CAPACITY);
         splitStrategy = builder.splitStrategy;
         keyValueSplitStrategy = builder.keyValueSplitStrategy;
         inputPreprocessor = builder.inputPreprocessor;
         nullStringStrategy = builder.nullStringStrategy;
+        defaultInputHandling = inputPreprocessor == Util.DEFAULT_INPUT_PREPROCESSOR
+                && nullStringStrategy == Util.DEFAULT_NULL_STRING_STRATEGY;
+        caseInsensitiveEnums = builder.caseInsensitiveEnums;
+        classNames = new ClassNames(builder.classLoader, builder.initializeClasses);
+        enumLookups = new HashMap<Class<?>, EnumLookup>();
+        for (Map.Entry<Class<?>, Map<String, Enum<?>>> e : builder.enumAliases.entrySet()) {
+            enumLookups.put(e.getKey(), new EnumLookup(e.getKey(), caseInsensitiveEnums, e.getValue()));
+        }
+        booleanLookup = builder.booleanAliases.isEmpty()
+                ? BooleanLookup.DEFAULT
+                : new BooleanLookup(builder.booleanAliases);
     }
 
     /**
@@ -75,9 +102,8 @@ public final class TypeParser {
         }
 
         @SuppressWarnings("unchecked")
-        T temp = (T) parseType2(input, new TargetType(targetType));
-        return temp;
-
+        TypedParser<T> temp = (TypedParser<T>) typedParser(targetType);
+        return temp.parse(input);
     }
 
     /**
@@ -109,8 +135,309 @@ public final class TypeParser {
         }
 
         @SuppressWarnings("unchecked")
-        T temp = (T) parseType2(input, new TargetType(genericType.getType()));
-        return temp;
+        TypedParser<T> temp = (TypedParser<T>) typedParser(genericType.getType());
+        return temp.parse(input);
+    }
+
+    /**
+     * Parses the characters of the given {@code input} to the given {@code targetType}. Same as
+     * {@link #parse(String, Class)}, but without copying the characters of {@code input} into a
+     * {@link String} when the {@link Parser} for {@code targetType} is a
+     * {@link CharSequenceParser} (and the default {@link InputPreprocessor} and
+     * {@link NullStringStrategy} are used).
+     * <p>
+     * Example: <br>
+     * <code>
+     * StringBuilder sb = new StringBuilder("123");<br>
+     * Integer i = parser.parse(sb, Integer.class);
+     * </code>
+     * 
+     * @param <T> the expected type to convert {@code input} to.
+     * @param input - characters to parse.
+     * @param targetType - the expected type to convert {@code input} to.
+     * @return an instance of {@code targetType} corresponding to the given {@code input}.
+     * @throws NullPointerException if any given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to the given
+     *         {@code targetType}.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         given {@code targetType}.
+     * @see CharSequenceParser
+     */
+    public <T> T parse(CharSequence input, Class<T> targetType) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser(targetType);
+        return temp.parse(input);
+    }
+
+    /**
+     * Parses the characters of the given {@code input} to the given {@code genericType}. Same as
+     * {@link #parse(String, GenericType)}, but without copying the characters of {@code input}
+     * into a {@link String} when possible (See {@link #parse(CharSequence, Class)}).
+     * 
+     * @param <T> the expected generic type to convert {@code input} to.
+     * @param input - characters to parse.
+     * @param genericType - the expected generic type to convert {@code input} to.
+     * @return an instance of {@code genericType} corresponding to the given {@code input}.
+     * @throws NullPointerException if any given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to the given
+     *         {@code targetType}.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         given {@code targetType}.
+     * @see CharSequenceParser
+     */
+    public <T> T parse(CharSequence input, GenericType<T> genericType) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        if (genericType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("genericType"));
+        }
+
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser(genericType.getType());
+        return temp.parse(input);
+    }
+
+    /**
+     * Parses {@code length} characters of the given {@code buffer}, starting at {@code offset},
+     * to the given {@code targetType}. Same as {@link #parse(String, Class)}, but without copying
+     * the characters into a {@link String} when possible (See {@link #parse(CharSequence, Class)}).
+     * 
+     * @param <T> the expected type to convert the characters to.
+     * @param buffer - containing the characters to parse.
+     * @param offset - index of the first character to parse.
+     * @param length - number of characters to parse.
+     * @param targetType - the expected type to convert the characters to.
+     * @return an instance of {@code targetType} corresponding to the given characters.
+     * @throws NullPointerException if any given argument is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is out of bounds.
+     * @throws TypeParserException if anything goes wrong while parsing the characters to the
+     *         given {@code targetType}.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         given {@code targetType}.
+     * @see CharSequenceParser
+     */
+    public <T> T parse(char[] buffer, int offset, int length, Class<T> targetType) {
+        if (buffer == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("buffer"));
+        }
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser(targetType);
+        return temp.parse(buffer, offset, length);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code int}. Same as
+     * {@code parse(input, int.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code int} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code int} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code int}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public int parseInt(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, int.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseInt(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Integer) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code long}. Same as
+     * {@code parse(input, long.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code long} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code long} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code long}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public long parseLong(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, long.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseLong(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Long) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code short}. Same as
+     * {@code parse(input, short.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code short} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code short} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code short}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public short parseShort(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, short.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseShort(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Short) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code byte}. Same as
+     * {@code parse(input, byte.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code byte} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code byte} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code byte}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public byte parseByte(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, byte.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseByte(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Byte) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code double}. Same as
+     * {@code parse(input, double.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code double} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code double} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code double}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public double parseDouble(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, double.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseDouble(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Double) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code float}. Same as
+     * {@code parse(input, float.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code float} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code float} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code float}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public float parseFloat(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, float.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return Numbers.parseFloat(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Float) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code boolean}. Same as
+     * {@code parse(input, boolean.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code boolean} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code boolean} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code boolean}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public boolean parseBoolean(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, boolean.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null) {
+            try {
+                return booleanLookup.parse(s, 0, s.length());
+            } catch (RuntimeException e) {
+                throw p.builtInParserFailure(e, input, s);
+            }
+        }
+        return (Boolean) p.parse(input);
+    }
+
+    /**
+     * Parses the given {@code input} to a {@code char}. Same as
+     * {@code parse(input, char.class)}, but without boxing the result when the default
+     * {@link Parser} for {@code char} is used.
+     * 
+     * @param input - characters to parse.
+     * @return the {@code char} value corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to a
+     *         {@code char}, for example if {@code input} is the {@code NullString}.
+     * @see #parse(CharSequence, Class)
+     */
+    public char parseChar(CharSequence input) {
+        TypedParser<?> p = primitiveParser(input, char.class);
+        CharSequence s = p.builtInParserInput(input);
+        if (s != null && s.length() == 1) {
+            return s.charAt(0);
+        }
+        return (Character) p.parse(input);
+    }
+
+    private TypedParser<?> primitiveParser(CharSequence input, Class<?> primitiveType) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        return typedParser(primitiveType);
     }
 
     /**
@@ -134,65 +461,126 @@ public final class TypeParser {
             throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
         }
 
-        return parseType2(input, new TargetType(targetType));
+        return typedParser(targetType).parse(input);
+    }
 
+    /**
+     * Compiles a {@link TypedParser} for the given {@code targetType}. The returned
+     * {@link TypedParser} resolves its parsers once, and can be used to parse many strings to the
+     * given {@code targetType}.
+     * <p>
+     * Example: <br>
+     * <code>
+     * TypeParser parser = TypeParser.newBuilder().build();<br>
+     * TypedParser&lt;Integer&gt; intParser = parser.compile(Integer.class);<br>
+     * Integer i = intParser.parse("1");
+     * </code>
+     * 
+     * @param <T> the expected type to convert strings to.
+     * @param targetType - the expected type to convert strings to.
+     * @return a {@link TypedParser} for the given {@code targetType}.
+     * @throws NullPointerException if given argument is {@code null}.
+     */
+    public <T> TypedParser<T> compile(Class<T> targetType) {
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser(targetType);
+        return temp;
     }
 
-    private Object parseType2(final String input, final TargetType targetType) {
-        String preprocessedInput = null;
-        try {
-            preprocessedInput = preProcessInputString(input, targetType);
-            return invokeParser(targetType, preprocessedInput);
-        } catch (TypeParserException e) {
-            // Re-throw as is (already contains context message)
-            throw e;
-        } catch (NoSuchRegisteredParserException e) {
-            // prepend original error message with context (i.e. input and targetType)
-            String message = formatErrorMessage(input, preprocessedInput, targetType, e.getMessage());
-            throw new NoSuchRegisteredParserException(message);
-        } catch (NumberFormatException e) {
-            // Improve NumberFormatException error message and wrap it in a TypeParserException.
-            // Also provide context (i.e. input and targetType)
-            String message = "NumberFormatException " + e.getMessage();
-            message = formatErrorMessage(input, preprocessedInput, targetType, message);
-            throw new TypeParserException(message, e);
-        } catch (Throwable t) {
-            // Something unexpected happen. Wrap it in a TypeParserException
-            // and provide context (i.e. input and targetType)
-            String message = formatErrorMessage(input, preprocessedInput, targetType, t.getMessage());
-            throw new TypeParserException(message, t);
+    /**
+     * Compiles a {@link TypedParser} for the given {@code genericType}. The returned
+     * {@link TypedParser} resolves its parsers once, and can be used to parse many strings to the
+     * given {@code genericType}.
+     * <p>
+     * Example: <br>
+     * <code>
+     * TypeParser parser = TypeParser.newBuilder().build();<br>
+     * TypedParser&lt;Map&lt;String, Integer&gt;&gt; mapParser = parser.compile(new GenericType&lt;Map&lt;String, Integer&gt;&gt;() {});<br>
+     * Map&lt;String, Integer&gt; map = mapParser.parse("a=1, b=2");
+     * </code><br>
+     * Note the ending "{}".
+     * 
+     * @param <T> the expected generic type to convert strings to.
+     * @param genericType - the expected generic type to convert strings to.
+     * @return a {@link TypedParser} for the given {@code genericType}.
+     * @throws NullPointerException if given argument is {@code null}.
+     */
+    public <T> TypedParser<T> compile(GenericType<T> genericType) {
+        if (genericType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("genericType"));
         }
+        @SuppressWarnings("unchecked")
+        TypedParser<T> temp = (TypedParser<T>) typedParser(genericType.getType());
+        return temp;
     }
 
-    private String preProcessInputString(String input, TargetType targetType) {
-        String result = inputPreprocessor.prepare(input, new InputPreprocessorHelper(targetType, this));
+    /**
+     * Compiles a {@link TypedParser} for the given {@code targetType}. The returned
+     * {@link TypedParser} resolves its parsers once, and can be used to parse many strings to the
+     * given {@code targetType}.
+     * 
+     * @param targetType - the expected type to convert strings to.
+     * @return a {@link TypedParser} for the given {@code targetType}.
+     * @throws NullPointerException if given argument is {@code null}.
+     */
+    public TypedParser<?> compile(Type targetType) {
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        return typedParser(targetType);
+    }
+
+    /**
+     * Checks if there is a {@link Parser} (or {@link DynamicParser}) for the given
+     * {@code targetType}.
+     * <p>
+     * Returns false if parsing any string, other than the {@code NullString}, to the given
+     * {@code targetType} would throw a {@link NoSuchRegisteredParserException}. Returning true does
+     * not guarantee that every input string is parsable to the given {@code targetType}.
+     * <p>
+     * The result is remembered, so checking a type known not to be parsable (and parsing to it)
+     * is cheap.
+     * 
+     * @param targetType - the type to check.
+     * @return true if {@code targetType} is parsable, otherwise false.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @see TypedParser#isParsable()
+     */
+    public boolean isParsable(Type targetType) {
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        return typedParser(targetType).isParsable();
+    }
+
+    TypedParser<?> typedParser(Type targetType) {
+        TypedParser<?> result = typedParsers.get(targetType);
         if (result == null) {
-            String message = "InputPreprocessor.prepare(...) method returned a null object "
-                    + "when its contract states an actual String must be returned.";
-            throw new UnsupportedOperationException(message);
+            result = new TypedParser<Object>(new TargetType(targetType), this);
+            typedParsers.put(targetType, result);
         }
         return result;
     }
 
-    private Object invokeParser(TargetType targetType, String preprocessedInput) {
-        if (parsers.containsKey(targetType.targetType())) {
-            ParserHelper helper = new ParserHelper(targetType, this);
-            if(targetType.isPrimitive() && helper.isNullString(preprocessedInput)) {
-				throw new UnsupportedOperationException("Primitive can not be set to null");
-            }
-            if (helper.isNullString(preprocessedInput)) {
-                return null;
-            }
-            Parser<?> parser = parsers.get(targetType.targetType());
-            return parser.parse(preprocessedInput, helper);
-        }
-        for (DynamicParser dynamicParser : dynamicParsers) {
-            ParserHelper helper = new ParserHelper(targetType, this);
-            Object result = dynamicParser.parse(preprocessedInput, helper);
-            if (result != TRY_NEXT) {
-                return result;
-            }
+    /*
+     * Returns the lookup table of the given enum type, including the aliases registered
+     * for it in the builder.
+     */
+    EnumLookup enumLookup(Class<?> enumType) {
+        EnumLookup result = enumLookups.get(enumType);
+        if (result == null) {
+            result = EnumLookup.of(enumType, caseInsensitiveEnums);
         }
-        throw new NoSuchRegisteredParserException("There is no registered 'Parser' for that type.");
+        return result;
+    }
+
+    /*
+     * Returns the class with the given name, as configured in the builder.
+     */
+    Class<?> classForName(String name) throws ClassNotFoundException {
+        return classNames.forName(name);
     }
 }
@@ -1,13 +1,18 @@
 package com.github.drapostolos.typeparser;
 
 import static com.github.drapostolos.typeparser.DynamicParsers.NoneContainerType.PROPERTY_EDITOR;
+import static com.github.drapostolos.typeparser.Util.DEFAULT_INPUT_PREPROCESSOR;
+import static com.github.drapostolos.typeparser.Util.DEFAULT_NULL_STRING_STRATEGY;
 import static com.github.drapostolos.typeparser.Util.defaultSplitStrategy;
 import static com.github.drapostolos.typeparser.Util.makeNullArgumentErrorMsg;
-import static java.util.Arrays.asList;
 
 import java.lang.reflect.Type;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,9 +29,14 @@ public final class TypeParserBuilder {
     final Set<DynamicParser> defaultDynamicParsers = DynamicParsers.copyDefault();
     final List<DynamicParser> clientProvidedDynamicParsers = new ArrayList<DynamicParser>();
     SplitStrategy splitStrategy = defaultSplitStrategy();
-    SplitStrategy keyValueSplitStrategy = (input, helper) -> asList(input.split("=", 2));
-    InputPreprocessor inputPreprocessor = (input, helper) -> input;
-    NullStringStrategy nullStringStrategy = (input, helper) -> "null".equalsIgnoreCase(input.trim());
+    SplitStrategy keyValueSplitStrategy = SplitStrategies.literal('=', 2);
+    InputPreprocessor inputPreprocessor = DEFAULT_INPUT_PREPROCESSOR;
+    NullStringStrategy nullStringStrategy = DEFAULT_NULL_STRING_STRATEGY;
+    final Map<Class<?>, Map<String, Enum<?>>> enumAliases = new HashMap<Class<?>, Map<String, Enum<?>>>();
+    boolean caseInsensitiveEnums;
+    final Map<String, Boolean> booleanAliases = new LinkedHashMap<String, Boolean>();
+    ClassLoader classLoader = TypeParserBuilder.class.getClassLoader();
+    boolean initializeClasses = true;
 
     TypeParserBuilder() {
     }
@@ -96,6 +106,67 @@ public final class TypeParserBuilder {
         return this;
     }
 
+    /**
+     * Register the given {@code formatter} for parsing strings to the given java.time
+     * {@code targetType}, instead of its default format. The (trimmed) input string is parsed
+     * with {@link DateTimeFormatter#parse(CharSequence, java.time.temporal.TemporalQuery)}.
+     * <p>
+     * Supported types are {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime},
+     * {@code ZonedDateTime}, {@code OffsetDateTime}, {@code OffsetTime}, {@code Instant},
+     * {@code Year}, {@code YearMonth} and {@code MonthDay}.
+     * 
+     * @param <T> the java.time type to parse with {@code formatter}.
+     * @param targetType the java.time type to parse with {@code formatter}.
+     * @param formatter the {@link DateTimeFormatter} to parse with.
+     * @return {@link TypeParserBuilder}
+     * @throws NullPointerException if any given argument is null.
+     * @throws IllegalArgumentException if {@code targetType} is not supported.
+     */
+    public <T extends TemporalAccessor> TypeParserBuilder registerDateTimeFormatter(
+            Class<T> targetType, DateTimeFormatter formatter) {
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        if (formatter == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("formatter"));
+        }
+        parsers.put(targetType, TemporalParsers.formatterParser(targetType, formatter));
+        return this;
+    }
+
+    /**
+     * Register the given {@code pattern} for parsing strings to the given java.time
+     * {@code targetType}, instead of its default format. The pattern is compiled once, with
+     * {@link DateTimeFormatter#ofPattern(String)}.
+     * <p>
+     * Example: <br>
+     * <code>
+     * TypeParser parser = TypeParser.newBuilder()<br>
+     * &nbsp;&nbsp;&nbsp;&nbsp;.registerDateTimePattern(LocalDate.class, "dd/MM/yyyy")<br>
+     * &nbsp;&nbsp;&nbsp;&nbsp;.build();<br>
+     * LocalDate date = parser.parse("14/01/2025", LocalDate.class);
+     * </code>
+     * 
+     * @param <T> the java.time type to parse with {@code pattern}.
+     * @param targetType the java.time type to parse with {@code pattern}.
+     * @param pattern the pattern to parse with.
+     * @return {@link TypeParserBuilder}
+     * @throws NullPointerException if any given argument is null.
+     * @throws IllegalArgumentException if {@code targetType} is not supported (See
+     *         {@link #registerDateTimeFormatter(Class, DateTimeFormatter)}), or if
+     *         {@code pattern} is invalid.
+     */
+    public <T extends TemporalAccessor> TypeParserBuilder registerDateTimePattern(
+            Class<T> targetType, String pattern) {
+        if (pattern == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("pattern"));
+        }
+        if (targetType == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("targetType"));
+        }
+        return registerDateTimeFormatter(targetType, DateTimeFormatter.ofPattern(pattern));
+    }
+
     /**
      * Register a custom made {@link DynamicParser} implementation. The {@link TypeParser} will loop
      * through the registered {@link DynamicParser} and the first found (which does not return
@@ -218,6 +289,112 @@ public final class TypeParserBuilder {
         return this;
     }
 
+    /**
+     * Makes the {@link TypeParser} ignore case when parsing a string to an {@link Enum} type.
+     * <p>
+     * By default the (trimmed) input string must be equal to the name of an enum constant. With
+     * case insensitive parsing enabled, "red", "Red" and "RED" are all parsed to the constant
+     * {@code RED}. If an enum type declares constants differing only in case, an exact match is
+     * preferred.
+     * 
+     * @return {@link TypeParserBuilder}
+     */
+    public TypeParserBuilder enableCaseInsensitiveEnumParsing() {
+        caseInsensitiveEnums = true;
+        return this;
+    }
+
+    /**
+     * Register an alias for the given enum {@code constant}, i.e. the {@link TypeParser} will
+     * parse the (trimmed) string {@code alias} to {@code constant}, in addition to the name of the
+     * constant.
+     * <p>
+     * Example: <br>
+     * <code>
+     * TypeParser parser = TypeParser.newBuilder().registerEnumAlias("on", State.ENABLED).build();<br>
+     * parser.parse("on", State.class); // returns State.ENABLED
+     * </code>
+     * 
+     * @param alias string to parse to {@code constant}.
+     * @param constant the enum constant to associate with {@code alias}.
+     * @return {@link TypeParserBuilder}
+     * @throws NullPointerException if any given argument is null.
+     */
+    public TypeParserBuilder registerEnumAlias(String alias, Enum<?> constant) {
+        if (alias == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("alias"));
+        }
+        if (constant == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("constant"));
+        }
+        Class<?> enumType = constant.getDeclaringClass();
+        Map<String, Enum<?>> aliases = enumAliases.get(enumType);
+        if (aliases == null) {
+            aliases = new LinkedHashMap<String, Enum<?>>();
+            enumAliases.put(enumType, aliases);
+        }
+        aliases.put(alias, constant);
+        return this;
+    }
+
+    /**
+     * Register an alias for the given boolean {@code value}, i.e. the {@link TypeParser} will
+     * parse the (trimmed) string {@code alias} to {@code value}, in addition to "true" and
+     * "false". As for "true" and "false", case is ignored.
+     * <p>
+     * Example: <br>
+     * <code>
+     * TypeParser parser = TypeParser.newBuilder()<br>
+     * &nbsp;&nbsp;&nbsp;&nbsp;.registerBooleanAlias("yes", true)<br>
+     * &nbsp;&nbsp;&nbsp;&nbsp;.registerBooleanAlias("no", false)<br>
+     * &nbsp;&nbsp;&nbsp;&nbsp;.build();<br>
+     * parser.parse("Yes", Boolean.class); // returns true
+     * </code>
+     * 
+     * @param alias string to parse to {@code value}.
+     * @param value the boolean value to associate with {@code alias}.
+     * @return {@link TypeParserBuilder}
+     * @throws NullPointerException if given {@code alias} is null.
+     */
+    public TypeParserBuilder registerBooleanAlias(String alias, boolean value) {
+        if (alias == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("alias"));
+        }
+        booleanAliases.put(alias, value);
+        return this;
+    }
+
+    /**
+     * Set the {@link ClassLoader} used to load classes when parsing a string to a {@link Class}
+     * type.
+     * <p>
+     * By default the {@link ClassLoader} that loaded type-parser is used.
+     * 
+     * @param classLoader {@link ClassLoader} to load classes with.
+     * @return {@link TypeParserBuilder}
+     * @throws NullPointerException if given argument is null.
+     */
+    public TypeParserBuilder setClassLoader(ClassLoader classLoader) {
+        if (classLoader == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("classLoader"));
+        }
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * Makes the {@link TypeParser} load classes without initializing them (i.e. without running
+     * their static initializers) when parsing a string to a {@link Class} type.
+     * <p>
+     * By default classes are initialized, as done by {@link Class#forName(String)}.
+     * 
+     * @return {@link TypeParserBuilder}
+     */
+    public TypeParserBuilder disableClassInitialization() {
+        initializeClasses = false;
+        return this;
+    }
+
     /**
      * Constructs a new instance of {@link TypeParser} as configured
      * with this {@link TypeParserBuilder}.
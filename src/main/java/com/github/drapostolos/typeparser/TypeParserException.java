@@ -1,8 +1,16 @@
 package com.github.drapostolos.typeparser;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Type;
+
 /**
  * This wraps any unexpected {@link RuntimeException} thrown in parsing process
  * and propagates up to the client.
+ * <p>
+ * The input string and target type of the failed parse are available through
+ * {@link #getInput()}, {@link #getPreprocessedInput()} and {@link #getTargetType()}, and the
+ * wrapped exception through {@link #getCause()}. The message is only rendered when asked for.
  * 
  * @see <a href="https://github.com/drapostolos/type-parser/wiki"
  *      target="_blank">User-Guide</a>
@@ -10,9 +18,53 @@ package com.github.drapostolos.typeparser;
 public class TypeParserException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
+    private final transient ErrorContext context;
+    private String message;
+
+    TypeParserException(ErrorContext context, Throwable t) {
+        super(null, t);
+        this.context = context;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = context.render();
+        }
+        return message;
+    }
 
-    TypeParserException(String message, Throwable t) {
-        super(message, t);
+    /**
+     * Returns the input string which could not be parsed.
+     * 
+     * @return the input string, or {@code null} if this exception has been deserialized.
+     */
+    public String getInput() {
+        return context == null ? null : context.input();
     }
 
+    /**
+     * Returns the input string, as returned by the {@link InputPreprocessor}, which could not be
+     * parsed.
+     * 
+     * @return the preprocessed input string, or {@code null} if the parse failed before (or
+     *         while) preprocessing the input string, or if this exception has been deserialized.
+     */
+    public String getPreprocessedInput() {
+        return context == null ? null : context.preprocessedInput();
+    }
+
+    /**
+     * Returns the type the input string could not be parsed to.
+     * 
+     * @return the target type, or {@code null} if this exception has been deserialized.
+     */
+    public Type getTargetType() {
+        return context == null ? null : context.targetType();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
 }
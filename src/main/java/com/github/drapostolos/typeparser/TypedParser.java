@@ -0,0 +1,433 @@
+package com.github.drapostolos.typeparser;
+
+import static com.github.drapostolos.typeparser.DynamicParser.TRY_NEXT;
+import static com.github.drapostolos.typeparser.Util.makeNullArgumentErrorMsg;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.drapostolos.typeparser.DynamicParsers.MandatoryOrOptionalDynamicParser;
+
+/**
+ * A parser bound to a single target type, as returned from {@link TypeParser#compile(Class)},
+ * {@link TypeParser#compile(GenericType)} and {@link TypeParser#compile(Type)}.
+ * <p>
+ * The {@link Parser} registered for the target type, and the parsers for its type arguments
+ * (or array component type), are resolved once when compiled. Which {@link DynamicParser} handles
+ * the target type is resolved on the first parse and remembered. Use this class when parsing many
+ * strings to the same type.
+ * <p>
+ * Example: <br>
+ * <code>
+ * TypedParser&lt;List&lt;Integer&gt;&gt; p = parser.compile(new GenericType&lt;List&lt;Integer&gt;&gt;() {});<br>
+ * List&lt;Integer&gt; list = p.parse("1, 2, 3");
+ * </code>
+ * <p>
+ * Instances of this class are thread safe.
+ *
+ * @param <T> the type this parser converts strings to.
+ * @see <a href="https://github.com/drapostolos/type-parser/wiki"
+ *      target="_blank">User-Guide</a>
+ */
+public final class TypedParser<T> {
+
+    /*
+     * TypedParsers currently being checked by isParsable() in this thread. Used to detect cyclic
+     * argument types.
+     */
+    private static final ThreadLocal<Set<TypedParser<?>>> CHECKING_IF_PARSABLE =
+            ThreadLocal.withInitial(HashSet::new);
+
+    private final TypeParser typeParser;
+    private final TargetType targetType;
+    private final Parser<?> parser;
+    private final List<TypedParser<?>> argumentParsers;
+    /*
+     * Helpers passed to all Parsers, DynamicParsers and the InputPreprocessor called for
+     * targetType. They are immutable, hence shared by all parses (and threads).
+     */
+    private final ParserHelper helper;
+    private final InputPreprocessorHelper inputPreprocessorHelper;
+    /*
+     * Index (in TypeParser.dynamicParsers) of the first default DynamicParser that may handle
+     * targetType. The ones before it are known to return TRY_NEXT for targetType.
+     */
+    private volatile int dynamicParserIndex;
+    /*
+     * Parser resolved by one of the default DynamicParsers for targetType. When set, it is used
+     * instead of calling the default DynamicParsers.
+     */
+    private volatile Parser<?> resolvedParser;
+    /*
+     * Result of isParsable(), once checked.
+     */
+    private volatile Boolean parsable;
+
+    TypedParser(TargetType targetType, TypeParser typeParser) {
+        this.typeParser = typeParser;
+        this.targetType = targetType;
+        this.parser = typeParser.parsers.get(targetType.targetType());
+        this.dynamicParserIndex = typeParser.clientProvidedDynamicParserCount;
+        this.argumentParsers = compileArgumentParsers();
+        this.helper = new ParserHelper(this);
+        this.inputPreprocessorHelper = new InputPreprocessorHelper(targetType, typeParser);
+    }
+
+    /*
+     * Resolves the parsers for the types the container DynamicParsers (and Parsers) are
+     * expected to pass to ParserHelper when parsing the elements of targetType.
+     */
+    private List<TypedParser<?>> compileArgumentParsers() {
+        List<TypedParser<?>> result = new ArrayList<TypedParser<?>>();
+        Type type = targetType.targetType();
+        if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (argument instanceof ParameterizedType) {
+                    result.add(typeParser.typedParser(argument));
+                    result.add(typeParser.typedParser(((ParameterizedType) argument).getRawType()));
+                } else if (argument instanceof Class || argument instanceof GenericArrayType) {
+                    result.add(typeParser.typedParser(argument));
+                }
+            }
+        } else if (targetType.componentClass() != null) {
+            result.add(typeParser.typedParser(targetType.componentClass()));
+        }
+        return result;
+    }
+
+    /**
+     * Parses the given {@code input} string to the target type of this {@link TypedParser}.
+     *
+     * @param input - string value to parse.
+     * @return an instance of the target type corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to the
+     *         target type.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         target type.
+     * @see TypeParser#parse(String, Class)
+     */
+    public T parse(String input) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        @SuppressWarnings("unchecked")
+        T temp = (T) parseType2(input);
+        return temp;
+    }
+
+    /**
+     * Parses the characters of the given {@code input} to the target type of this
+     * {@link TypedParser}, without copying them into a {@link String} when possible.
+     *
+     * @param input - characters to parse.
+     * @return an instance of the target type corresponding to the given {@code input}.
+     * @throws NullPointerException if given argument is {@code null}.
+     * @throws TypeParserException if anything goes wrong while parsing {@code input} to the
+     *         target type.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         target type.
+     * @see TypeParser#parse(CharSequence, Class)
+     */
+    public T parse(CharSequence input) {
+        if (input == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("input"));
+        }
+        @SuppressWarnings("unchecked")
+        T temp = (T) (input instanceof String ? parseType2((String) input) : parse(input, 0, input.length()));
+        return temp;
+    }
+
+    /**
+     * Parses {@code length} characters of the given {@code buffer}, starting at {@code offset},
+     * to the target type of this {@link TypedParser}, without copying them into a {@link String}
+     * when possible.
+     *
+     * @param buffer - containing the characters to parse.
+     * @param offset - index of the first character to parse.
+     * @param length - number of characters to parse.
+     * @return an instance of the target type corresponding to the given characters.
+     * @throws NullPointerException if {@code buffer} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is out of bounds.
+     * @throws TypeParserException if anything goes wrong while parsing the characters to the
+     *         target type.
+     * @throws NoSuchRegisteredParserException if there is no registered {@link Parser} for the
+     *         target type.
+     * @see TypeParser#parse(char[], int, int, Class)
+     */
+    public T parse(char[] buffer, int offset, int length) {
+        if (buffer == null) {
+            throw new NullPointerException(makeNullArgumentErrorMsg("buffer"));
+        }
+        @SuppressWarnings("unchecked")
+        T temp = (T) parse(CharBuffer.wrap(buffer, offset, length), 0, length);
+        return temp;
+    }
+
+    /**
+     * Returns the type this {@link TypedParser} parses strings to.
+     *
+     * @return the target {@link Type}.
+     */
+    public Type getTargetType() {
+        return targetType.targetType();
+    }
+
+    /**
+     * Checks if there is a {@link Parser} (or {@link DynamicParser}) for the target type of this
+     * {@link TypedParser}.
+     * <p>
+     * Returns false if parsing any string, other than the {@code NullString}, to the target type
+     * would throw a {@link NoSuchRegisteredParserException}. Returning true does not guarantee
+     * that every input string is parsable to the target type.
+     * <p>
+     * {@link DynamicParser}s registered with
+     * {@link TypeParserBuilder#registerDynamicParser(DynamicParser)} decide per input string if
+     * they can parse, hence this method returns true if any such {@link DynamicParser} is registered.
+     * 
+     * @return true if the target type is parsable, otherwise false.
+     * @see TypeParser#isParsable(Type)
+     */
+    public boolean isParsable() {
+        if (parser != null || resolvedParser != null || typeParser.clientProvidedDynamicParserCount > 0) {
+            return true;
+        }
+        int first = dynamicParserIndex;
+        List<DynamicParser> dynamicParsers = typeParser.dynamicParsers;
+        if (first == dynamicParsers.size()) {
+            return false;
+        }
+        Boolean result = parsable;
+        if (result != null) {
+            return result;
+        }
+        Set<TypedParser<?>> checking = CHECKING_IF_PARSABLE.get();
+        if (!checking.add(this)) {
+            // Cyclic argument type. Parsing it fails with a StackOverflowError.
+            return true;
+        }
+        try {
+            result = false;
+            for (int i = first; i < dynamicParsers.size(); i++) {
+                MandatoryOrOptionalDynamicParser p = (MandatoryOrOptionalDynamicParser) dynamicParsers.get(i);
+                if (p.acceptsTargetType(helper)) {
+                    result = p.canParseContainedTypes(helper);
+                    break;
+                }
+            }
+            parsable = result;
+            return result;
+        } finally {
+            checking.remove(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TypedParser: " + targetType;
+    }
+
+    TargetType targetType() {
+        return targetType;
+    }
+
+    TypeParser typeParser() {
+        return typeParser;
+    }
+
+    /*
+     * Checks if strings are parsed to targetType by the built-in Parser, using the default
+     * InputPreprocessor and NullStringStrategy.
+     */
+    boolean usesDefaultParser() {
+        return parser instanceof Parsers && typeParser.defaultInputHandling;
+    }
+
+    /*
+     * Returns the (preprocessed) input to pass to the built-in Parser registered for targetType,
+     * for parsing it without boxing the result. Returns null when the input must be parsed as
+     * usual, i.e. when another Parser is registered or the input is a NullString.
+     */
+    CharSequence builtInParserInput(CharSequence input) {
+        if (!(parser instanceof Parsers)) {
+            return null;
+        }
+        if (typeParser.defaultInputHandling) {
+            return Util.isDefaultNullString(input, 0, input.length()) ? null : input;
+        }
+        String prepared = typeParser.inputPreprocessor.prepare(input.toString(), inputPreprocessorHelper);
+        if (prepared == null || helper.isNullString(prepared)) {
+            return null;
+        }
+        return prepared;
+    }
+
+    /*
+     * Returns the exception to throw when the built-in Parser failed to parse
+     * builtInParserInput(input), the same as parse(...) throws for that failure.
+     */
+    RuntimeException builtInParserFailure(RuntimeException e, CharSequence input, CharSequence builtInParserInput) {
+        return wrapFailure(e, input.toString(), builtInParserInput.toString());
+    }
+
+    void resolveParser(Parser<?> parser) {
+        resolvedParser = parser;
+    }
+
+    /*
+     * Returns the parser for the given type, preferring the ones resolved when this
+     * TypedParser was compiled.
+     */
+    TypedParser<?> argumentParser(Type type) {
+        for (TypedParser<?> p : argumentParsers) {
+            if (p.targetType.targetType() == type) {
+                return p;
+            }
+        }
+        return typeParser.typedParser(type);
+    }
+
+    private Object parseType2(final String input) {
+        String preprocessedInput = null;
+        try {
+            preprocessedInput = preProcessInputString(input);
+            return invokeParser(preprocessedInput);
+        } catch (Throwable t) {
+            throw wrapFailure(t, input, preprocessedInput);
+        }
+    }
+
+    /*
+     * Parses the given range of characters, passing them directly to the CharSequenceParser for
+     * targetType when possible. Otherwise they are copied into a String and parsed as usual.
+     */
+    Object parse(CharSequence input, int start, int end) {
+        CharSequenceParser<?> p = charSequenceParser();
+        if (p == null) {
+            return parseType2(input.subSequence(start, end).toString());
+        }
+        try {
+            if (Util.isDefaultNullString(input, start, end)) {
+                if (p == parser && targetType.isPrimitive()) {
+                    throw new UnsupportedOperationException("Primitive can not be set to null");
+                }
+                return null;
+            }
+            return p.parse(input, start, end, helper);
+        } catch (Throwable t) {
+            // The default InputPreprocessor returns the input as is.
+            String inputString = input.subSequence(start, end).toString();
+            throw wrapFailure(t, inputString, inputString);
+        }
+    }
+
+    /*
+     * Returns the CharSequenceParser to pass characters to directly, or null if they must be
+     * copied into a String and parsed as usual.
+     */
+    private CharSequenceParser<?> charSequenceParser() {
+        if (!typeParser.defaultInputHandling) {
+            return null;
+        }
+        if (parser != null) {
+            return parser instanceof CharSequenceParser ? (CharSequenceParser<?>) parser : null;
+        }
+        Parser<?> resolved = resolvedParser;
+        if (resolved instanceof CharSequenceParser && typeParser.clientProvidedDynamicParserCount == 0) {
+            return (CharSequenceParser<?>) resolved;
+        }
+        return null;
+    }
+
+    private RuntimeException wrapFailure(Throwable t, String input, String preprocessedInput) {
+        if (t instanceof TypeParserException) {
+            // Re-throw as is (already contains context message)
+            return (TypeParserException) t;
+        }
+        /*
+         * The context (i.e. input and targetType) is kept in the thrown exception, and only
+         * formatted into its message when asked for.
+         */
+        if (t instanceof NoSuchRegisteredParserException) {
+            // prepend original error message with context
+            return new NoSuchRegisteredParserException(
+                    new ErrorContext(input, preprocessedInput, targetType, "", t));
+        }
+        if (t instanceof NumberFormatException) {
+            // Improve NumberFormatException error message and wrap it in a TypeParserException.
+            ErrorContext context = new ErrorContext(input, preprocessedInput, targetType, "NumberFormatException ", t);
+            return new TypeParserException(context, t);
+        }
+        // Something unexpected happen. Wrap it in a TypeParserException
+        return new TypeParserException(new ErrorContext(input, preprocessedInput, targetType, "", t), t);
+    }
+
+    private String preProcessInputString(String input) {
+        String result = typeParser.inputPreprocessor.prepare(input, inputPreprocessorHelper);
+        if (result == null) {
+            String message = "InputPreprocessor.prepare(...) method returned a null object "
+                    + "when its contract states an actual String must be returned.";
+            throw new UnsupportedOperationException(message);
+        }
+        return result;
+    }
+
+    private Object invokeParser(String preprocessedInput) {
+        if (parser != null) {
+            if (targetType.isPrimitive() && helper.isNullString(preprocessedInput)) {
+                throw new UnsupportedOperationException("Primitive can not be set to null");
+            }
+            if (helper.isNullString(preprocessedInput)) {
+                return null;
+            }
+            return parser.parse(preprocessedInput, helper);
+        }
+        /*
+         * Client provided DynamicParsers may decide on the input string, so they are always
+         * called. The default DynamicParsers decide on the target type only (or return null
+         * for a NullString), so the ones known to return TRY_NEXT for this target type are skipped.
+         */
+        List<DynamicParser> dynamicParsers = typeParser.dynamicParsers;
+        for (int i = 0; i < typeParser.clientProvidedDynamicParserCount; i++) {
+            Object result = dynamicParsers.get(i).parse(preprocessedInput, helper);
+            if (result != TRY_NEXT) {
+                return result;
+            }
+        }
+        Parser<?> resolved = resolvedParser;
+        if (resolved != null) {
+            if (helper.isNullString(preprocessedInput)) {
+                return null;
+            }
+            return resolved.parse(preprocessedInput, helper);
+        }
+        int first = dynamicParserIndex;
+        for (int i = first; i < dynamicParsers.size(); i++) {
+            Object result = dynamicParsers.get(i).parse(preprocessedInput, helper);
+            if (result != TRY_NEXT) {
+                if (i != first) {
+                    dynamicParserIndex = i;
+                }
+                return result;
+            }
+        }
+        if (first == dynamicParsers.size()) {
+            /*
+             * Known to have no parser. A NullString is still parsed to null, as done by the
+             * default DynamicParsers when called.
+             */
+            if (helper.isNullString(preprocessedInput)) {
+                return null;
+            }
+        } else {
+            dynamicParserIndex = dynamicParsers.size();
+        }
+        throw new NoSuchRegisteredParserException("There is no registered 'Parser' for that type.");
+    }
+}
@@ -1,17 +1,73 @@
 package com.github.drapostolos.typeparser;
 
-import static java.util.Arrays.asList;
-
 import java.lang.reflect.Type;
 
 final class Util {
 
+    private static final SplitStrategy DEFAULT_SPLIT_STRATEGY = SplitStrategies.literal(',');
+    static final InputPreprocessor DEFAULT_INPUT_PREPROCESSOR = (input, helper) -> input;
+    static final NullStringStrategy DEFAULT_NULL_STRING_STRATEGY =
+            (input, helper) -> isDefaultNullString(input, 0, input.length());
+    private static final String DEFAULT_NULL_STRING = "null";
+
     private Util() {
         throw new AssertionError("Not meant for instantiation");
     }
 
     static SplitStrategy defaultSplitStrategy() {
-        return (input, helper)  -> asList(input.split(","));
+        return DEFAULT_SPLIT_STRATEGY;
+    }
+
+    /*
+     * Same as DEFAULT_NULL_STRING_STRATEGY, i.e. checks if the trimmed range is "null"
+     * (ignoring case), for a range of characters.
+     */
+    static boolean isDefaultNullString(CharSequence input, int start, int end) {
+        start = trimStart(input, start, end);
+        return equalsIgnoreCase(input, start, trimEnd(input, start, end), DEFAULT_NULL_STRING);
+    }
+
+    /*
+     * Checks if the range is equal to the given lower case word, ignoring case.
+     */
+    static boolean equalsIgnoreCase(CharSequence input, int start, int end, String lowerCaseWord) {
+        if (end - start != lowerCaseWord.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCaseWord.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != lowerCaseWord.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns the index of the first character in the range not removed by String.trim().
+     */
+    static int trimStart(CharSequence input, int start, int end) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /*
+     * Returns the index after the last character in the range not removed by String.trim().
+     */
+    static int trimEnd(CharSequence input, int start, int end) {
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /*
+     * Returns the range without the characters removed by String.trim().
+     */
+    static CharSequence trim(CharSequence input, int start, int end) {
+        start = trimStart(input, start, end);
+        return input.subSequence(start, trimEnd(input, start, end));
     }
 
     static String makeNullArgumentErrorMsg(String argName) {
@@ -27,22 +83,19 @@ final class Util {
     }
 
     static String formatErrorMessage(String input, String preprocessed, TargetType targetType, String message) {
-        String messageTemplate = "\n\t"
-                + "Can not parse \"%s\" {preprocessed: %s} "
-                + "to type \"%s\" {instance of: %s} \n\t"
-                + "due to: %s";
-        String preprocessedInput = formatPreprocessedInput(preprocessed);
-        String targetTypeName = getTargetTypeName(targetType.targetType());
-        String className = targetType.targetType().getClass().getName();
-        return String.format(messageTemplate,
-                input, preprocessedInput, targetTypeName, className, message);
-    }
-
-    private static String formatPreprocessedInput(String preprocessedInput) {
-        if (preprocessedInput == null) {
-            return null;
+        Type type = targetType.targetType();
+        StringBuilder result = new StringBuilder(128)
+                .append("\n\tCan not parse \"").append(input)
+                .append("\" {preprocessed: ");
+        if (preprocessed == null) {
+            result.append("null");
+        } else {
+            result.append('"').append(preprocessed).append('"');
         }
-        return String.format("\"%s\"", preprocessedInput);
+        return result.append("} to type \"").append(getTargetTypeName(type))
+                .append("\" {instance of: ").append(type.getClass().getName())
+                .append("} \n\tdue to: ").append(message)
+                .toString();
     }
 
     private static String getTargetTypeName(Type targetType) {
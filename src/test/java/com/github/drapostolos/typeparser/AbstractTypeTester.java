@@ -9,6 +9,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import org.assertj.core.data.MapEntry;
@@ -101,4 +102,47 @@ public abstract class AbstractTypeTester<T> extends TestBase {
     public void toNull(GenericType<Class<?>> genericType) {
         assertThat(parser.parse(stringToParse, genericType)).isNull();
     }
+
+    /*
+     * Asserts that each input is parsed to the same value as returned by make(...), or else
+     * fails with a TypeParserException caused by the same exception as thrown by make(...).
+     */
+    final void canParseSameAsMake(Class<T> type, String... inputs) throws Exception {
+        for (String input : inputs) {
+            Object expected;
+            try {
+                expected = make(input);
+            } catch (NumberFormatException e) {
+                expected = e.getClass();
+            }
+            Object actual;
+            try {
+                actual = parser.parse(input, type);
+            } catch (TypeParserException e) {
+                actual = e.getCause().getClass();
+            }
+            assertThat(actual).describedAs("input: %s", input).isEqualTo(expected);
+        }
+    }
+
+    /*
+     * Returns random decimal numbers (e.g. "-12.345e-6") of up to 30 digits, half of them with an
+     * exponent within [-maxExponent, maxExponent).
+     */
+    static String[] randomDecimals(int count, int maxExponent) {
+        Random random = new Random(42);
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            String significand = Long.toString(random.nextLong() % 100000000000L);
+            if (random.nextBoolean()) {
+                significand += random.nextLong() >>> 1;
+            }
+            int point = random.nextInt(significand.length() + 1);
+            result[i] = significand.substring(0, point) + "." + significand.substring(point);
+            if (random.nextBoolean()) {
+                result[i] += "e" + (random.nextInt(2 * maxExponent) - maxExponent);
+            }
+        }
+        return result;
+    }
 }
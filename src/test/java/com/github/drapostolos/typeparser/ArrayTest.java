@@ -83,6 +83,61 @@ public class ArrayTest extends TestBase {
                 .isEmpty();
     }
 
+    @Test
+    public void canParseToPrimitiveArrays() throws Exception {
+        assertThat(parser.parse("1, -2, 3", long[].class)).containsExactly(1L, -2L, 3L);
+        assertThat(parser.parse("1, -2, 3", short[].class)).containsExactly((short) 1, (short) -2, (short) 3);
+        assertThat(parser.parse("1, -2, 3", byte[].class)).containsExactly((byte) 1, (byte) -2, (byte) 3);
+        assertThat(parser.parse("1.5, -2", double[].class)).containsExactly(1.5d, -2d);
+        assertThat(parser.parse("1.5, -2", float[].class)).containsExactly(1.5f, -2f);
+        assertThat(parser.parse("true, FALSE", boolean[].class)).containsExactly(true, false);
+        assertThat(parser.parse("a,b", char[].class)).containsExactly('a', 'b');
+    }
+
+    @Test
+    public void canParseToLargePrimitiveArray() throws Exception {
+        StringBuilder input = new StringBuilder("0");
+        for (int i = 1; i < 100; i++) {
+            input.append(',').append(i);
+        }
+        int[] intArray = parser.parse(input.toString(), int[].class);
+        assertThat(intArray.length).isEqualTo(100);
+        assertThat(intArray[99]).isEqualTo(99);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenParsingByteArrayContainingTooLargeValue() throws Exception {
+        shouldThrow(TypeParserException.class)
+                .containingErrorMessage("Can not parse \"128\" {preprocessed: \"128\"} ")
+                .containingErrorMessage("to type \"byte\" {instance of: java.lang.Class}")
+                .containingErrorMessage("due to: NumberFormatException")
+                .whenParsing("1,128")
+                .to(byte[].class);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenParsingPrimitiveArrayContainingNullString() throws Exception {
+        shouldThrow(TypeParserException.class)
+                .containingErrorMessage("to type \"int\" {instance of: java.lang.Class}")
+                .containingErrorMessage("Primitive can not be set to null")
+                .whenParsing("1,null")
+                .to(int[].class);
+    }
+
+    @Test
+    public void shouldUseRegisteredParserForPrimitiveArrayElements() throws Exception {
+        // given
+        TypeParser parser = TypeParser.newBuilder()
+                .registerParser(int.class, (input, helper) -> input.trim().length())
+                .build();
+
+        // when
+        int[] intArray = parser.parse("a, bb, ccc", int[].class);
+
+        // then
+        assertThat(intArray).containsExactly(1, 2, 3);
+    }
+
     @Test
     public void canChangeSplitStrategy() throws Exception {
         // given
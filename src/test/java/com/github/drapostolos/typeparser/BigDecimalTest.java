@@ -54,4 +54,10 @@ public class BigDecimalTest extends AbstractTypeTester<BigDecimal> {
         canParse("5=55, 6=66").toLinkedHashMap(new GenericType<Map<BigDecimal, BigDecimal>>() {});
     }
 
+    @Test
+    public void shouldParseSameAsBigDecimalConstructor() throws Exception {
+        canParseSameAsMake(BigDecimal.class, "0", "-0.00", "1.50", "+.5", "1.", "0.05", "-12345678901234.56",
+                "123456789012345678901.5", "1.0000000000000000000", "9999999999999999999", "1e3", "1.0E-3",
+                "1e+20000", "1e", ".", "1..2", "--1", "1f", " 7.25\t");
+    }
 }
@@ -18,6 +18,7 @@ public class BigIntegerTest extends AbstractTypeTester<BigInteger> {
     public void canParseStringToBigIntegerType() throws Exception {
         canParse("55").toType(BigInteger.class);
         canParse("\t55").toType(BigInteger.class);
+        canParse(" -123456789012345678901234567890 ").toType(BigInteger.class);
     }
 
     @Test
@@ -53,4 +54,9 @@ public class BigIntegerTest extends AbstractTypeTester<BigInteger> {
         canParse("5=55, 6=66").toLinkedHashMap(new GenericType<Map<BigInteger, BigInteger>>() {});
     }
 
+    @Test
+    public void shouldParseSameAsBigIntegerConstructor() throws Exception {
+        canParseSameAsMake(BigInteger.class, "0", "-0", "+12", "000123", "-123456789012345678",
+                "1234567890123456789012", "+", "-", "1.0", "1e3", " 7\t");
+    }
 }
@@ -1,5 +1,7 @@
 package com.github.drapostolos.typeparser;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,4 +64,36 @@ public class BooleanTest extends AbstractTypeTester<Boolean> {
         canParse("false=true, true=false").toLinkedHashMap(new GenericType<Map<Boolean, Boolean>>() {});
     }
 
+    @Test
+    public void canParseMixedCaseStringToBoolean() throws Exception {
+        assertThat(parser.parse(" TRUE", boolean.class)).isTrue();
+        assertThat(parser.parse("False ", Boolean.class)).isFalse();
+    }
+
+    @Test
+    public void canParseRegisteredBooleanAliases() throws Exception {
+        // given
+        TypeParser parser = TypeParser.newBuilder()
+                .registerBooleanAlias("yes", true)
+                .registerBooleanAlias(" NO ", false)
+                .registerBooleanAlias("1", true)
+                .registerBooleanAlias("0", false)
+                .build();
+
+        // then
+        assertThat(parser.parse(" Yes", Boolean.class)).isTrue();
+        assertThat(parser.parse("no", boolean.class)).isFalse();
+        assertThat(parser.parse("true", Boolean.class)).isTrue();
+        assertThat(parser.parseBoolean("0")).isFalse();
+        assertThat(parser.parse("1, 0, yes", boolean[].class)).containsExactly(true, false, true);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenNotParsableToBooleanAlias() throws Exception {
+        builder.registerBooleanAlias("yes", true);
+        shouldThrowTypeParserException()
+                .containingErrorMessage("\"yess\" is not parsable to a Boolean")
+                .whenParsing("yess")
+                .to(Boolean.class, boolean.class);
+    }
 }
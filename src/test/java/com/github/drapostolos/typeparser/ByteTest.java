@@ -27,6 +27,14 @@ public class ByteTest extends AbstractTypeTester<Byte> {
                 .to(byte.class, Byte.class);
     }
 
+    @Test
+    public void shouldThrowWhenElementIsOutOfRangeFor_byteType() throws Exception {
+        shouldThrowTypeParserException()
+                .containingErrorMessage("Value out of range. Value:\"1234\" Radix:10")
+                .whenParsing("1, 1234 ")
+                .to(byte[].class, Byte[].class);
+    }
+
     @Test
     public void shouldThrowExceptionWhenStringIsNotAByte() throws Exception {
         shouldThrowTypeParserException()
@@ -0,0 +1,127 @@
+package com.github.drapostolos.typeparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+public class CharSequenceParserTest extends TestBase {
+
+    private static final String[] NUMBERS = { "0", "-0", "+1", " 42\t", "-17", "2147483647", "-2147483648",
+            "2147483648", "-2147483649", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "-9223372036854775809", "", " ", "-", "+", "1a", "a1", "1 2", "--1", "\u0661\u0662" };
+
+    enum Color {
+        RED, GREEN
+    }
+
+    @Test
+    public void canParseCharSequence() throws Exception {
+        assertThat(parser.parse(new StringBuilder(" 123 "), Integer.class)).isEqualTo(123);
+        assertThat(parser.parse(CharBuffer.wrap("-5"), long.class)).isEqualTo(-5L);
+        assertThat(parser.parse(new StringBuilder("TRUE"), Boolean.class)).isTrue();
+        assertThat(parser.parse(new StringBuilder(" GREEN"), Color.class)).isEqualTo(Color.GREEN);
+        assertThat(parser.parse(new StringBuilder("1.5"), Double.class)).isEqualTo(1.5);
+        assertThat(parser.parse(new StringBuilder("1, 2,3"), new GenericType<List<Integer>>() {}))
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void canParseRangeOfCharArray() throws Exception {
+        char[] buffer = "x=42;RED;true".toCharArray();
+        assertThat(parser.parse(buffer, 2, 2, Integer.class)).isEqualTo(42);
+        assertThat(parser.parse(buffer, 5, 3, Color.class)).isEqualTo(Color.RED);
+        assertThat(parser.parse(buffer, 9, 4, boolean.class)).isTrue();
+        assertThat(parser.compile(String.class).parse(buffer, 0, 4)).isEqualTo("x=42");
+    }
+
+    @Test
+    public void canParseNullStringCharSequence() throws Exception {
+        assertThat(parser.parse(new StringBuilder(" NULL "), Integer.class)).isNull();
+        assertThat(parser.parse(new StringBuilder("null"), Color.class)).isNull();
+        assertThat(parser.parse(new StringBuilder("null"), new GenericType<List<Integer>>() {})).isEmpty();
+    }
+
+    @Test
+    public void shouldThrowWhenParsingNullStringCharSequenceToPrimitive() throws Exception {
+        shouldThrow(TypeParserException.class);
+        thrown.expectMessage("Primitive can not be set to null");
+        parser.parse(new StringBuilder("null"), int.class);
+    }
+
+    @Test
+    public void shouldProvideInputInErrorMessageWhenParsingCharSequenceFails() throws Exception {
+        shouldThrow(TypeParserException.class);
+        thrown.expectMessage("Can not parse \"abc\"");
+        thrown.expectMessage("NumberFormatException For input string: \"abc\"");
+        parser.parse("abc".toCharArray(), 0, 3, Integer.class);
+    }
+
+    @Test
+    public void shouldThrowWhenCharArrayRangeIsOutOfBounds() throws Exception {
+        shouldThrow(IndexOutOfBoundsException.class);
+        parser.parse("123".toCharArray(), 2, 2, Integer.class);
+    }
+
+    @Test
+    public void shouldPassCharactersToCharSequenceParserWithoutCopying() throws Exception {
+        // given
+        List<CharSequence> received = new ArrayList<CharSequence>();
+        CharSequenceParser<MyClass1> p = (input, start, end, helper) -> {
+            received.add(input);
+            return new MyClass1(input.subSequence(start, end).toString());
+        };
+        TypeParser parser = TypeParser.newBuilder().registerParser(MyClass1.class, p).build();
+        StringBuilder input = new StringBuilder("a,b");
+
+        // when
+        List<MyClass1> result = parser.parse(input, new GenericType<List<MyClass1>>() {});
+
+        // then elements are passed as ranges of the (once copied) input
+        assertThat(result).containsExactly(new MyClass1("a"), new MyClass1("b"));
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0)).isSameAs(received.get(1));
+
+        assertThat(parser.parse(input, MyClass1.class)).isEqualTo(new MyClass1("a,b"));
+        assertThat(received.get(2)).isSameAs(input);
+    }
+
+    @Test
+    public void shouldApplyInputPreprocessorWhenParsingCharSequence() throws Exception {
+        TypeParser parser = TypeParser.newBuilder()
+                .setInputPreprocessor((input, helper) -> input.replace("#", ""))
+                .build();
+        assertThat(parser.parse(new StringBuilder("#12#"), Integer.class)).isEqualTo(12);
+    }
+
+    @Test
+    public void shouldParseIntegralNumbersSameAsJdk() throws Exception {
+        for (String number : NUMBERS) {
+            assertSameResult(number, Integer.class, () -> Integer.valueOf(number.trim()));
+            assertSameResult(number, Long.class, () -> Long.valueOf(number.trim()));
+        }
+    }
+
+    private void assertSameResult(String input, Class<?> type, Callable<Object> jdk)
+            throws Exception {
+        Object expected;
+        try {
+            expected = jdk.call();
+        } catch (NumberFormatException e) {
+            try {
+                parser.parse(new StringBuilder(input), type);
+                fail("Expected TypeParserException when parsing: '" + input + "' to " + type);
+            } catch (TypeParserException e2) {
+                assertThat(e2.getMessage()).contains("NumberFormatException " + e.getMessage());
+            }
+            return;
+        }
+        assertThat(parser.parse(new StringBuilder(input), type)).describedAs("input: '%s'", input).isEqualTo(expected);
+        assertThat(parser.parse(input, type)).describedAs("input: '%s'", input).isEqualTo(expected);
+    }
+}
@@ -10,6 +10,15 @@ import org.junit.Test;
 
 public class ClassTest extends AbstractTypeTester<Class<?>> {
 
+    static boolean initialized;
+
+    static class InitializationRecorder {
+
+        static {
+            initialized = true;
+        }
+    }
+
     Class<?> cls = ClassTest.class;
     String stringToParse = String.format("%s, java.lang.Long, %s", cls.getName(), cls.getName());
 
@@ -78,4 +87,35 @@ public class ClassTest extends AbstractTypeTester<Class<?>> {
         canParse("null").toNull(new GenericType<Class<?>>() {});
     }
 
+    @Test
+    public void canParsePrimitiveAndArrayClassNames() throws Exception {
+        assertThat(parser.parse("int", Class.class)).isSameAs(int.class);
+        assertThat(parser.parse(" int[] ", Class.class)).isSameAs(int[].class);
+        assertThat(parser.parse("java.lang.String[][]", Class.class)).isSameAs(String[][].class);
+        assertThat(parser.parse("[Ljava.lang.String;", Class.class)).isSameAs(String[].class);
+    }
+
+    @Test
+    public void shouldThrowWhenArrayComponentClassIsNotFound() throws Exception {
+        shouldThrowTypeParserException()
+                .containingErrorMessage("ClassNotFound: com.unknown.Type[]")
+                .whenParsing("com.unknown.Type[]")
+                .to(Class.class);
+    }
+
+    @Test
+    public void canParseToClassWithoutInitializingIt() throws Exception {
+        TypeParser parser = TypeParser.newBuilder().disableClassInitialization().build();
+        String name = InitializationRecorder.class.getName();
+        assertThat(parser.parse(name, Class.class)).isSameAs(InitializationRecorder.class);
+        assertThat(initialized).isFalse();
+    }
+
+    @Test
+    public void canParseToClassUsingGivenClassLoader() throws Exception {
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+        TypeParser parser = TypeParser.newBuilder().setClassLoader(classLoader).build();
+        assertThat(parser.parse(cls.getName(), Class.class)).isSameAs(cls);
+    }
+
 }
@@ -128,6 +128,15 @@ public class CollectionTest extends TestBase {
                 .to(new GenericType<MyCollectionWithoutDefaultConstructor<String>>() {});
     }
 
+    @Test
+    public void shouldThrowWhenCollectionImplementationHasPrivateDefaultConstructor() throws Exception {
+        shouldThrowTypeParserException()
+                .containingErrorMessage("Cannot instantiate collection of type '")
+                .containingErrorMessage(MyCollectionWithPrivateConstructor.class.getName())
+                .whenParsing(DUMMY_STRING)
+                .to(new GenericType<MyCollectionWithPrivateConstructor<String>>() {});
+    }
+
     enum MyEnum {
         AAA, BBB, CCC, DDD
     }
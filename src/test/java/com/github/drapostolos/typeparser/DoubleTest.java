@@ -54,4 +54,16 @@ public class DoubleTest extends AbstractTypeTester<Double> {
     public void canParseToDoubleMap() throws Exception {
         canParse("1=.1, 2=.2").toLinkedHashMap(new GenericType<Map<Double, Double>>() {});
     }
+
+    @Test
+    public void shouldParseSameValueAsDoubleParseMethod() throws Exception {
+        canParseSameAsMake(Double.class, "0", "-0", "+0.0", "1.", ".5", "-1.5e3", "1E-3", "123456789012345678",
+                "9007199254740993", "1.7976931348623157e308", "4.9e-324", "1e23", "0.1", "2.5e-10", "1e10",
+                "00012.5000", " 7.25\t", "NaN", "-Infinity", "0x1p3", "1e", "1.5f", "2.2250738585072011e-308",
+                "2.2250738585072014e-308", "1.7976931348623158e308", "1.7976931348623159e308",
+                "2.4703282292062328e-324", "1e-400", "1e400", "8.41e21", "7.038531e-26",
+                "123456789012345678901234567890", "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203126");
+        canParseSameAsMake(Double.class, randomDecimals(10000, 350));
+    }
 }
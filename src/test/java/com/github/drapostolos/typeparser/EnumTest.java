@@ -1,5 +1,7 @@
 package com.github.drapostolos.typeparser;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +21,10 @@ public class EnumTest extends AbstractTypeTester<MyEnum> {
         AAA, BBB, CCC
     };
 
+    enum MixedCaseEnum {
+        abc, ABC, Other
+    };
+
     @Test
     public void shouldThrowWhenStringIsNotParsableToEnum() throws Exception {
         shouldThrowTypeParserException()
@@ -66,4 +72,42 @@ public class EnumTest extends AbstractTypeTester<MyEnum> {
         canParse("null").toNull(MyEnum.class);
     }
 
+    @Test
+    public void shouldThrowWhenCaseDiffersAndCaseInsensitiveParsingIsNotEnabled() throws Exception {
+        shouldThrowTypeParserException()
+                .causedBy(IllegalArgumentException.class)
+                .containingErrorMessage("No enum constant")
+                .containingErrorMessage("MyEnum.aaa")
+                .whenParsing(" aaa ")
+                .to(MyEnum.class);
+    }
+
+    @Test
+    public void canParseStringToEnumTypeIgnoringCase() throws Exception {
+        TypeParser parser = TypeParser.newBuilder().enableCaseInsensitiveEnumParsing().build();
+        assertThat(parser.parse(" aaa ", MyEnum.class)).isEqualTo(MyEnum.AAA);
+        assertThat(parser.parse("Bbb", MyEnum.class)).isEqualTo(MyEnum.BBB);
+        assertThat(parser.parse("OTHER", MixedCaseEnum.class)).isEqualTo(MixedCaseEnum.Other);
+    }
+
+    @Test
+    public void shouldPreferExactMatchWhenIgnoringCase() throws Exception {
+        TypeParser parser = TypeParser.newBuilder().enableCaseInsensitiveEnumParsing().build();
+        assertThat(parser.parse("abc", MixedCaseEnum.class)).isEqualTo(MixedCaseEnum.abc);
+        assertThat(parser.parse("ABC", MixedCaseEnum.class)).isEqualTo(MixedCaseEnum.ABC);
+    }
+
+    @Test
+    public void canParseEnumAlias() throws Exception {
+        TypeParser parser = TypeParser.newBuilder()
+                .registerEnumAlias("first", MyEnum.AAA)
+                .registerEnumAlias("second", MyEnum.BBB)
+                .build();
+        assertThat(parser.parse(" first", MyEnum.class)).isEqualTo(MyEnum.AAA);
+        assertThat(parser.parse("second", MyEnum.class)).isEqualTo(MyEnum.BBB);
+        assertThat(parser.parse("CCC", MyEnum.class)).isEqualTo(MyEnum.CCC);
+        assertThat(parser.parse("first,CCC", new GenericType<List<MyEnum>>() {}))
+                .containsExactly(MyEnum.AAA, MyEnum.CCC);
+    }
+
 }
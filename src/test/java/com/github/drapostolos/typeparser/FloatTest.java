@@ -56,4 +56,14 @@ public class FloatTest extends AbstractTypeTester<Float> {
         canParse("1=11, 2=22").toLinkedHashMap(new GenericType<Map<Float, Float>>() {});
     }
 
+    @Test
+    public void shouldParseSameValueAsFloatParseMethod() throws Exception {
+        canParseSameAsMake(Float.class, "0", "-0", "+0.0", "1.", ".5", "-1.5e3", "1E-3", "0.1", "2.5e-10", "1e10",
+                "00012.5000", " 7.25\t", "NaN", "-Infinity", "0x1p3", "1e", "1.5f", "3.4028235e38",
+                "3.4028235677973366e38", "3.4028236e38", "1e39", "1.17549435e-38", "1.1754942e-38", "1.4e-45",
+                "7.006492321624086e-46", "7.0e-46", "1e-46", "16777216", "16777217", "16777219",
+                "1.00000005960464477539062500", "1.00000005960464477539062501", "7.038531e-26", "8.589973e9",
+                "123456789012345678901234567890");
+        canParseSameAsMake(Float.class, randomDecimals(10000, 50));
+    }
 }
@@ -1,6 +1,10 @@
 package com.github.drapostolos.typeparser;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +28,48 @@ public class LocalDateTimeTest extends AbstractTypeTester<LocalDateTime> {
         canParse("\t2025-01-14T14:30:15.123456789").toType(LocalDateTime.class);
     }
 
+    @Test
+    public void shouldParseSameAsIsoFormatters() throws Exception {
+        String[] dates = { "2024-02-29", "0000-01-01", "9999-12-31", " 2025-01-14 ", "+12025-01-14",
+                "2025-1-14", "2023-02-29", "2025-00-10", "2025/01/14", "\u0662025-01-14" };
+        for (String date : dates) {
+            assertParsedSameAsIsoFormatter(date, LocalDate.class);
+        }
+        String[] times = { "00:00", "23:59", "14:30:15", "14:30:15.1", "14:30:15.123456789", "24:00",
+                "14:60", "14:30:61", "14:30:15.", "14:30:15.1234567890", "1:30", "14-30-15" };
+        for (String time : times) {
+            assertParsedSameAsIsoFormatter(time, LocalTime.class);
+            assertParsedSameAsIsoFormatter("2025-01-14T" + time, LocalDateTime.class);
+        }
+        assertParsedSameAsIsoFormatter("2025-01-14t14:30", LocalDateTime.class);
+        assertParsedSameAsIsoFormatter("2025-02-30T14:30", LocalDateTime.class);
+    }
+
+    private void assertParsedSameAsIsoFormatter(String input, Class<?> type) {
+        Object expected;
+        try {
+            expected = parseWithIsoFormatter(input.trim(), type);
+        } catch (RuntimeException e) {
+            expected = e.getMessage();
+        }
+        Object actual;
+        try {
+            actual = parser.parse(input, type);
+        } catch (TypeParserException e) {
+            actual = e.getCause().getMessage();
+        }
+        assertThat(actual).describedAs("input: %s", input).isEqualTo(expected);
+    }
+
+    private static Object parseWithIsoFormatter(String input, Class<?> type) {
+        if (type == LocalDate.class) {
+            return LocalDate.parse(input);
+        } else if (type == LocalTime.class) {
+            return LocalTime.parse(input);
+        }
+        return LocalDateTime.parse(input);
+    }
+
     @Test
     public void shouldThrowWhenWrongDate() throws Exception {
         shouldThrowTypeParserException()
@@ -0,0 +1,19 @@
+package com.github.drapostolos.typeparser;
+
+import java.util.AbstractList;
+
+public class MyCollectionWithPrivateConstructor<T> extends AbstractList<T> {
+
+    private MyCollectionWithPrivateConstructor() {}
+
+    @Override
+    public T get(int index) {
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+}
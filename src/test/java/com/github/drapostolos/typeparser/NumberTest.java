@@ -1,5 +1,8 @@
 package com.github.drapostolos.typeparser;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.util.List;
 import java.util.Locale;
@@ -33,6 +36,29 @@ public class NumberTest extends AbstractTypeTester<Number> {
         canParse(".1").toType(Number.class);
     }
 
+    @Test
+    public void shouldParseToNarrowestNumberType() throws Exception {
+        assertThat(parser.parse(" 12 ", Number.class)).isEqualTo(12L);
+        assertThat(parser.parse("12.00", Number.class)).isEqualTo(12L);
+        assertThat(parser.parse("-9223372036854775808", Number.class)).isEqualTo(Long.MIN_VALUE);
+        assertThat(parser.parse("0", Number.class)).isInstanceOf(Long.class).isEqualTo(0L);
+        assertThat(parser.parse(" 00 ", Number.class)).isInstanceOf(Long.class).isEqualTo(0L);
+        assertThat(parser.parse("0.000", Number.class)).isInstanceOf(Long.class).isEqualTo(0L);
+        assertThat(parser.parse("-0", Number.class)).isEqualTo(-0.0d);
+        assertThat(parser.parse("-12.5", Number.class)).isEqualTo(-12.5d);
+        assertThat(parser.parse("100000000000000000000", Number.class)).isEqualTo(1e20d);
+        assertThat(parser.parse("9223372036854775808", Number.class))
+                .isEqualTo(new BigDecimal("9223372036854775808"));
+        assertThat(parser.parse("0.12345678901234567", Number.class))
+                .isEqualTo(new BigDecimal("0.12345678901234567"));
+    }
+
+    @Test
+    public void shouldParseSameAsNumberFormatWhenNotPlainDecimal() throws Exception {
+        assertThat(parser.parse("1,000", Number.class)).isEqualTo(1000L);
+        assertThat(parser.parse("1e3", Number.class)).isEqualTo(1L);
+    }
+
     @Test
     public void canParseToGenericArray() throws Exception {
         canParse("1, 1.2, .1").toGenericArray(new GenericType<Number[]>() {});
@@ -2,6 +2,8 @@ package com.github.drapostolos.typeparser;
 
 import java.io.File;
 import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -157,6 +159,12 @@ public class ParameterCheckTest extends TestBase {
         parser.parse(null, Object.class);
     }
 
+    @Test
+    public void shouldThrowExceptionWhenParsingNullToPrimitive() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("input");
+        parser.parseInt(null);
+    }
+
     @Test
     public void shouldThrowExceptionWhenParsingStringToNullClass() throws Exception {
         prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("targetType");
@@ -190,6 +198,94 @@ public class ParameterCheckTest extends TestBase {
         parser.parse("dummy", t);
     }
 
+    @Test
+    public void shouldThrowExceptionWhenCompilingNullClass() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("targetType");
+        Class<?> dummy = null;
+        parser.compile(dummy);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCompilingNullType() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("targetType");
+        Type t = null;
+        parser.compile(t);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCompilingNullGenericType() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("genericType");
+        GenericType<Set<Long>> t = null;
+        parser.compile(t);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringNullEnumAlias() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("alias");
+        builder.registerEnumAlias(null, EnumTest.MyEnum.AAA);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringNullDateTimeFormatter() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("formatter");
+        builder.registerDateTimeFormatter(LocalDate.class, null);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringDateTimeFormatterForNullType() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("targetType");
+        builder.registerDateTimeFormatter(null, DateTimeFormatter.ISO_DATE);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringNullDateTimePattern() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("pattern");
+        builder.registerDateTimePattern(LocalDate.class, null);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringNullBooleanAlias() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("alias");
+        builder.registerBooleanAlias(null, true);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenRegisteringEnumAliasForNullConstant() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("constant");
+        builder.registerEnumAlias("alias", null);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenSettingNullClassLoader() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("classLoader");
+        builder.setClassLoader(null);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCreatingLiteralSplitStrategyWithNullDelimiter() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("delimiter");
+        SplitStrategies.literal(null);
+    }
+
+    @Test
+    public void shouldThrowWhenStreamingSplitIsCalledWithNullConsumer() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("consumer");
+        TypeParser typeParser = TypeParser.newBuilder().build();
+        new ParserHelper(SOME_TYPE, typeParser).split("a,b", (TokenConsumer) null);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenParsingNullCharArray() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("buffer");
+        parser.parse((char[]) null, 0, 0, Integer.class);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenParsingNullCharSequence() throws Exception {
+        prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed("input");
+        parser.parse((CharSequence) null, Integer.class);
+    }
+
     private void prepareExpectedExceptionWhenNullValuePassedInForArgumentNamed(String argName) {
         thrown.expect(NullPointerException.class);
         thrown.expectMessage(String.format("Argument named '%s' is illegally set to null!", argName));
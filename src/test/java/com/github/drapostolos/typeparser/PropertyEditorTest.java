@@ -8,6 +8,8 @@ import java.awt.Rectangle;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyEditor;
 import java.beans.PropertyEditorManager;
+import java.beans.PropertyEditorSupport;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -38,6 +40,46 @@ public class PropertyEditorTest extends TestBase {
         assertThat(o).isInstanceOf(TypeToUseWithPropertyEditor.class);
     }
 
+    @Test
+    public void shouldReusePropertyEditorWhenParsingRepeatedly() throws Exception {
+        //given
+        PropertyEditorManager.registerEditor(TypeToUseWithCountingPropertyEditor.class, CountingPropertyEditor.class);
+        parser = builder.enablePropertyEditor().build();
+        parser.parse("a", TypeToUseWithCountingPropertyEditor.class);
+        int instances = CountingPropertyEditor.INSTANCES.get();
+
+        //when
+        TypeToUseWithCountingPropertyEditor o = parser.parse("b", TypeToUseWithCountingPropertyEditor.class);
+        parser.parse("c", TypeToUseWithCountingPropertyEditor.class);
+
+        //then
+        assertThat(o.text).isEqualTo("b");
+        assertThat(CountingPropertyEditor.INSTANCES.get()).isEqualTo(instances);
+    }
+
+    public static class TypeToUseWithCountingPropertyEditor {
+
+        final String text;
+
+        public TypeToUseWithCountingPropertyEditor(int i, String text) {
+            this.text = text;
+        }
+    }
+
+    public static class CountingPropertyEditor extends PropertyEditorSupport {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingPropertyEditor() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void setAsText(String text) {
+            setValue(new TypeToUseWithCountingPropertyEditor(1, text));
+        }
+    }
+
     public static class TypeToUseWithPropertyEditor {
 
         public TypeToUseWithPropertyEditor(int i, String text) {
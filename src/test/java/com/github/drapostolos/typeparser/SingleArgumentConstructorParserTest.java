@@ -124,4 +124,26 @@ public class SingleArgumentConstructorParserTest extends TestBase {
         Object actual = parser.parse("null", ObjectConstructor.class);
         assertThat(actual).isNull();
     }
+
+    @Test
+    public void canParseRepeatedlyWithSameConstructor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(parser.parse("A", WithEnumConstructor.class)).isInstanceOf(WithEnumConstructor.class);
+            assertThat(parser.parse("null", WithEnumConstructor.class)).isNull();
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenConstructorFailsAfterSuccessfulParse() throws Exception {
+        assertThat(parser.parse("1", IntegerConstructor.class)).isInstanceOf(IntegerConstructor.class);
+        shouldThrowTypeParserException()
+                .containingNumberFormatErrorMessage();
+        parser.parse(DUMMY_STRING, IntegerConstructor.class);
+    }
+
+    public static class IntegerConstructor {
+
+        public IntegerConstructor(Integer i) {}
+
+    }
 }
@@ -0,0 +1,111 @@
+package com.github.drapostolos.typeparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.MapEntry.entry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class SplitStrategiesTest extends TestBase {
+
+    private static final String[] INPUTS = { "", ",", ",,", "a", "a,", "a,,", ",a", "a,b", " a , b ,c",
+            "a,,b", "a,b,,", ",,a,,b,,", "a=b=c", "a==b", "=", "==a", "a;;b;;", ";;", ";;;" };
+
+    @Test
+    public void shouldSplitSameAsStringSplitWithCharDelimiter() throws Exception {
+        for (char delimiter : new char[] { ',', '=' }) {
+            for (int limit = -1; limit < 4; limit++) {
+                for (String input : INPUTS) {
+                    assertThat(SplitStrategies.literal(delimiter, limit).split(input, null))
+                            .describedAs("input: '%s', limit: %s", input, limit)
+                            .isEqualTo(Arrays.asList(input.split(Pattern.quote(String.valueOf(delimiter)), limit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldSplitSameAsStringSplitWithStringDelimiter() throws Exception {
+        for (String delimiter : new String[] { ";;", "==", ",", "a," }) {
+            for (int limit = -1; limit < 4; limit++) {
+                for (String input : INPUTS) {
+                    assertThat(SplitStrategies.literal(delimiter, limit).split(input, null))
+                            .describedAs("input: '%s', limit: %s", input, limit)
+                            .isEqualTo(Arrays.asList(input.split(Pattern.quote(delimiter), limit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void canSplitWithoutLimit() throws Exception {
+        assertThat(SplitStrategies.literal(';').split("a;b;;", null)).containsExactly("a", "b");
+        assertThat(SplitStrategies.literal(" | ").split("a | b | c", null)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void canUseLiteralSplitStrategyInTypeParser() throws Exception {
+        TypeParser parser = TypeParser.newBuilder()
+                .setSplitStrategy(SplitStrategies.literal(';'))
+                .setKeyValueSplitStrategy(SplitStrategies.literal("->", 2))
+                .build();
+        assertThat(parser.parse("1;2;3", int[].class)).containsExactly(1, 2, 3);
+        assertThat(parser.parse("a->1;b->2", new GenericType<Map<String, Integer>>() {}))
+                .containsOnly(entry("a", 1), entry("b", 2));
+    }
+
+    @Test
+    public void shouldThrowWhenDelimiterIsEmpty() throws Exception {
+        shouldThrow(IllegalArgumentException.class);
+        SplitStrategies.literal("");
+    }
+
+    @Test
+    public void shouldPassSameSubstringsToTokenConsumerAsStringSplit() throws Exception {
+        for (String delimiter : new String[] { ",", ";;" }) {
+            for (int limit = -1; limit < 4; limit++) {
+                for (String input : INPUTS) {
+                    List<String> tokens = new ArrayList<String>();
+                    StreamingSplitStrategy strategy = (StreamingSplitStrategy) SplitStrategies.literal(delimiter, limit);
+                    strategy.split(input, null, (source, start, end) -> tokens.add(source.substring(start, end)));
+                    assertThat(tokens)
+                            .describedAs("input: '%s', limit: %s", input, limit)
+                            .isEqualTo(Arrays.asList(input.split(Pattern.quote(delimiter), limit)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void canUseCustomStreamingSplitStrategy() throws Exception {
+        StreamingSplitStrategy everyCharacter = (input, helper, consumer) -> {
+            for (int i = 0; i < input.length(); i++) {
+                consumer.accept(input, i, i + 1);
+            }
+        };
+        TypeParser parser = TypeParser.newBuilder().setSplitStrategy(everyCharacter).build();
+        assertThat(parser.parse("123", new GenericType<List<Integer>>() {})).containsExactly(1, 2, 3);
+        assertThat(parser.parse("45", Integer[].class)).containsExactly(4, 5);
+    }
+
+    @Test
+    public void canPassSubstringsOfListBasedSplitStrategyToTokenConsumer() throws Exception {
+        TypeParser parser = TypeParser.newBuilder()
+                .setSplitStrategy((input, helper) -> Arrays.asList(input.split("\\|")))
+                .build();
+        ParserHelper helper = new ParserHelper(new TargetType(String.class), parser);
+        List<String> tokens = new ArrayList<String>();
+        helper.split("a|b|c", (source, start, end) -> tokens.add(source.substring(start, end)));
+        assertThat(tokens).containsExactly("a", "b", "c");
+
+        tokens.clear();
+        helper.split("null", (source, start, end) -> tokens.add(source.substring(start, end)));
+        assertThat(tokens).isEmpty();
+    }
+
+}
@@ -140,4 +140,21 @@ public class StaticFactoryMethodParserTest extends TestBase {
         }
     }
 
+    @Test
+    public void canParseRepeatedlyWithSameStaticFactoryMethod() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(parser.parse(DUMMY_STRING + i, MyClass1.class)).isEqualTo(new MyClass1(DUMMY_STRING + i));
+            assertThat(parser.parse("null", MyClass1.class)).isNull();
+        }
+    }
+
+    @Test
+    public void shouldThrowExceptionContainingCauseWhenStaticFactoryMethodFails() throws Exception {
+        assertThat(parser.parse("1", MyClass3.class)).isInstanceOf(MyClass3.class);
+        shouldThrowTypeParserException()
+                .containingErrorMessage("Failed when calling static factory method ")
+                .containingErrorMessage("For input string: \"%s\"", DUMMY_STRING);
+        parser.parse(DUMMY_STRING, MyClass3.class);
+    }
+
 }
@@ -21,4 +21,36 @@ public class TargetTypeTest extends TestBase {
         .hasMessageContaining("type must be parameterized")
         .hasNoCause();
     }
+
+    @Test
+    public void shouldThrowWhenGettingParameterizedClassArgumentsAndNotParameterized() throws Exception {
+        TargetType type = new TargetType(String.class);
+
+        assertThatThrownBy(() -> type.getParameterizedClassArguments())
+        .hasMessageContaining("type must be parameterized")
+        .hasNoCause();
+    }
+
+    @Test
+    public void shouldShareTargetTypeOfCompiledParser() throws Exception {
+        TypeParser typeParser = TypeParser.newBuilder().build();
+
+        assertThat(typeParser.typedParser(String.class).targetType())
+        .isSameAs(typeParser.typedParser(String.class).targetType());
+    }
+
+    @Test
+    public void canGetComponentClassOfArrayType() throws Exception {
+        assertThat(new TargetType(int[].class).componentClass()).isEqualTo(int.class);
+        assertThat(new TargetType(String.class).componentClass()).isNull();
+    }
+
+    @Test
+    public void shouldThrowWhenGettingParameterizedClassArgumentsContainingIllegalTypeArgument() throws Exception {
+        TargetType type = new TargetType(new GenericType<Class<?>>() {}.getType());
+
+        assertThatThrownBy(() -> type.getParameterizedClassArguments())
+        .hasMessageContaining("That type contains illegal type argument")
+        .hasNoCause();
+    }
 }
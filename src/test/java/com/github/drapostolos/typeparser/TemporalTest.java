@@ -0,0 +1,95 @@
+package com.github.drapostolos.typeparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TemporalTest extends TestBase {
+
+    @Test
+    public void canParseStringToJavaTimeTypes() throws Exception {
+        assertThat(parser.parse(" 2025-01-14T14:30:15Z", Instant.class))
+                .isEqualTo(Instant.parse("2025-01-14T14:30:15Z"));
+        assertThat(parser.parse("PT1H30M\t", Duration.class)).isEqualTo(Duration.ofMinutes(90));
+        assertThat(parser.parse("P1Y2M3D", Period.class)).isEqualTo(Period.of(1, 2, 3));
+        assertThat(parser.parse("2025-01-14T14:30:15+01:00[Europe/Paris]", ZonedDateTime.class))
+                .isEqualTo(ZonedDateTime.parse("2025-01-14T14:30:15+01:00[Europe/Paris]"));
+        assertThat(parser.parse("2025-01-14T14:30:15+01:00", OffsetDateTime.class))
+                .isEqualTo(OffsetDateTime.parse("2025-01-14T14:30:15+01:00"));
+        assertThat(parser.parse(" Europe/Paris ", ZoneId.class)).isEqualTo(ZoneId.of("Europe/Paris"));
+        assertThat(parser.parse("2025", Year.class)).isEqualTo(Year.of(2025));
+        assertThat(parser.parse("2025-01", YearMonth.class)).isEqualTo(YearMonth.of(2025, 1));
+    }
+
+    @Test
+    public void canParseToListOfZoneIds() throws Exception {
+        List<ZoneId> zones = parser.parse("UTC, +02:00, Europe/Paris", new GenericType<List<ZoneId>>() {});
+        assertThat(zones).containsExactly(ZoneId.of("UTC"), ZoneId.of("+02:00"), ZoneId.of("Europe/Paris"));
+    }
+
+    @Test
+    public void shouldShareParsedZoneIds() throws Exception {
+        assertThat(parser.parse("Europe/Paris", ZoneId.class))
+                .isSameAs(parser.parse("Europe/Paris", ZoneId.class));
+    }
+
+    @Test
+    public void shouldThrowWhenStringIsNotZoneId() throws Exception {
+        shouldThrowTypeParserException()
+                .containingErrorMessage("Can not parse \"Nowhere/Place\"")
+                .whenParsing("Nowhere/Place")
+                .to(ZoneId.class);
+    }
+
+    @Test
+    public void canRegisterDateTimePattern() throws Exception {
+        // given
+        TypeParser parser = TypeParser.newBuilder()
+                .registerDateTimePattern(LocalDate.class, "dd/MM/yyyy")
+                .registerDateTimeFormatter(LocalDateTime.class, DateTimeFormatter.ISO_DATE_TIME)
+                .build();
+
+        // then
+        assertThat(parser.parse(" 14/01/2025", LocalDate.class)).isEqualTo(LocalDate.of(2025, 1, 14));
+        assertThat(parser.parse("14/01/2025, 15/01/2025", LocalDate[].class))
+                .containsExactly(LocalDate.of(2025, 1, 14), LocalDate.of(2025, 1, 15));
+        assertThat(parser.parse("2025-01-14T14:30:15+01:00", LocalDateTime.class))
+                .isEqualTo(LocalDateTime.of(2025, 1, 14, 14, 30, 15));
+    }
+
+    @Test
+    public void shouldThrowWhenStringDoesNotMatchRegisteredPattern() throws Exception {
+        builder.registerDateTimePattern(LocalDate.class, "dd/MM/yyyy");
+        shouldThrowTypeParserException()
+                .containingErrorMessage("Text '2025-01-14' could not be parsed at index 2")
+                .whenParsing("2025-01-14")
+                .to(LocalDate.class);
+    }
+
+    @Test
+    public void shouldThrowWhenRegisteringDateTimePatternForUnsupportedType() throws Exception {
+        shouldThrow(IllegalArgumentException.class)
+                .containingErrorMessage("Cannot register DateTimeFormatter for type 'java.time.DayOfWeek'");
+        builder.registerDateTimePattern(DayOfWeek.class, "EEE");
+    }
+
+    @Test
+    public void shouldThrowWhenRegisteringInvalidDateTimePattern() throws Exception {
+        shouldThrow(IllegalArgumentException.class);
+        builder.registerDateTimePattern(LocalDate.class, "{");
+    }
+}
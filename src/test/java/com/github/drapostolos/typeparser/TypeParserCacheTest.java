@@ -0,0 +1,159 @@
+package com.github.drapostolos.typeparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TypeParserCacheTest extends TestBase {
+
+    @Test
+    public void canParseSameTypeRepeatedly() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(parser.parse(DUMMY_STRING, MyClass1.class)).isEqualTo(new MyClass1(DUMMY_STRING));
+            assertThat(parser.parse("null", MyClass1.class)).isNull();
+        }
+    }
+
+    @Test
+    public void canParseNonNullStringAfterNullStringWasParsedToSameType() throws Exception {
+        assertThat(parser.parse("null", MyClass1.class)).isNull();
+        assertThat(parser.parse(DUMMY_STRING, MyClass1.class)).isEqualTo(new MyClass1(DUMMY_STRING));
+        assertThat(parser.parse("null", MyClass1.class)).isNull();
+    }
+
+    @Test
+    public void shouldAlwaysCallClientProvidedDynamicParsers() throws Exception {
+        // given
+        TypeParser parser = TypeParser.newBuilder()
+                .registerDynamicParser(new DynamicParser() {
+
+                    @Override
+                    public Object parse(String input, ParserHelper helper) {
+                        if (input.startsWith("#")) {
+                            return new MyClass1("client");
+                        }
+                        return TRY_NEXT;
+                    }
+                })
+                .build();
+
+        // then
+        assertThat(parser.parse(DUMMY_STRING, MyClass1.class)).isEqualTo(new MyClass1(DUMMY_STRING));
+        assertThat(parser.parse("#", MyClass1.class)).isEqualTo(new MyClass1("client"));
+        assertThat(parser.parse(DUMMY_STRING, MyClass1.class)).isEqualTo(new MyClass1(DUMMY_STRING));
+    }
+
+    @Test
+    public void boundedCacheShouldNotGrowBeyondCapacity() throws Exception {
+        BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(2, "bb");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(2)).isEqualTo("bb");
+
+        cache.put(3, "c");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(3)).isEqualTo("c");
+    }
+
+    @Test
+    public void shouldThrowWhenBoundedCacheCapacityIsNotPositive() throws Exception {
+        shouldThrow(IllegalArgumentException.class);
+        new BoundedCache<Integer, String>(0);
+    }
+
+    @Test
+    public void shouldThrowEachTimeWhenParsingToTypeWithoutParser() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            try {
+                parser.parse(DUMMY_STRING, MyClass2.class);
+                fail("Expected NoSuchRegisteredParserException");
+            } catch (NoSuchRegisteredParserException e) {
+                assertThat(e.getMessage()).contains("There is no registered 'Parser' for that type.");
+            }
+        }
+    }
+
+    @Test
+    public void canParseNullStringToTypeWithoutParser() throws Exception {
+        assertThat(parser.isParsable(MyClass2.class)).isFalse();
+        assertThat(parser.parse("null", MyClass2.class)).isNull();
+    }
+
+    @Test
+    public void canCheckIfTypeIsParsable() throws Exception {
+        Type[] parsable = { int.class, String.class, File.class, MyClass1.class, MyClass3.class,
+                int[].class, new GenericType<List<Integer>>() {}.getType(),
+                new GenericType<Map<String, MyClass1>>() {}.getType(),
+                new GenericType<Optional<Long>>() {}.getType(), Class.class };
+        for (Type t : parsable) {
+            assertThat(parser.isParsable(t)).describedAs("type: %s", t).isTrue();
+        }
+    }
+
+    @Test
+    public void canCheckIfTypeIsNotParsable() throws Exception {
+        Type[] notParsable = { MyClass2.class, MyClass2[].class, new GenericType<List<MyClass2>>() {}.getType(),
+                new GenericType<Map<String, MyClass2>>() {}.getType(), Map.class.getTypeParameters()[0] };
+        for (Type t : notParsable) {
+            assertThat(parser.isParsable(t)).describedAs("type: %s", t).isFalse();
+        }
+    }
+
+    @Test
+    public void shouldConsiderTypeParsableWhenDynamicParserIsRegistered() throws Exception {
+        TypeParser parser = TypeParser.newBuilder()
+                .registerDynamicParser((input, helper) -> DynamicParser.TRY_NEXT)
+                .build();
+        assertThat(parser.isParsable(MyClass2.class)).isTrue();
+    }
+
+    @Test
+    public void shouldConsiderCyclicTypeParsable() throws Exception {
+        assertThat(parser.isParsable(StaticFactoryMethodParserTest.WithCyclicValueOfMethod.class)).isTrue();
+    }
+
+    @Test
+    public void shouldPassSameStrategyHelpersForSameTargetType() throws Exception {
+        // given
+        Set<Helper> splitHelpers = new HashSet<Helper>();
+        Set<Helper> nullStringHelpers = new HashSet<Helper>();
+        Set<Helper> preprocessorHelpers = new HashSet<Helper>();
+        TypeParser parser = TypeParser.newBuilder()
+                .setSplitStrategy((input, helper) -> {
+                    splitHelpers.add(helper);
+                    return Arrays.asList(input.split(","));
+                })
+                .setNullStringStrategy((input, helper) -> {
+                    nullStringHelpers.add(helper);
+                    return input.equals("null");
+                })
+                .setInputPreprocessor((input, helper) -> {
+                    preprocessorHelpers.add(helper);
+                    return input;
+                })
+                .build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            parser.parse("1,2", new GenericType<List<Integer>>() {});
+        }
+
+        // then
+        assertThat(splitHelpers).hasSize(1);
+        assertThat(nullStringHelpers).hasSize(2); // List<Integer> and Integer
+        assertThat(preprocessorHelpers).hasSize(2);
+    }
+
+}
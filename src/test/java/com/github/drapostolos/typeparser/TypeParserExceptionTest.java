@@ -1,5 +1,12 @@
 package com.github.drapostolos.typeparser;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -91,4 +98,52 @@ public class TypeParserExceptionTest extends TestBase {
                 .whenParsing("1,2,3,a,4")
                 .to(Integer[].class);
     }
+
+    @Test
+    public void shouldKeepContextOfFailedParse() throws Exception {
+        try {
+            parser.parse("1, a", int[].class);
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getInput()).isEqualTo(" a");
+            assertThat(e.getPreprocessedInput()).isEqualTo(" a");
+            assertThat(e.getTargetType()).isEqualTo(int.class);
+            assertThat(e.getCause()).isInstanceOf(NumberFormatException.class);
+            assertThat(e.getMessage())
+                    .isEqualTo("\n\tCan not parse \" a\" {preprocessed: \" a\"} "
+                            + "to type \"int\" {instance of: java.lang.Class} \n\t"
+                            + "due to: NumberFormatException For input string: \"a\"");
+        }
+    }
+
+    @Test
+    public void shouldKeepContextOfParseWithoutParser() throws Exception {
+        try {
+            parser.parse(DUMMY_STRING, MyClass2.class);
+            fail("Expected NoSuchRegisteredParserException");
+        } catch (NoSuchRegisteredParserException e) {
+            assertThat(e.getInput()).isEqualTo(DUMMY_STRING);
+            assertThat(e.getTargetType()).isEqualTo(MyClass2.class);
+            assertThat(e.getMessage()).contains("due to: There is no registered 'Parser' for that type.");
+        }
+    }
+
+    @Test
+    public void shouldKeepMessageWhenSerialized() throws Exception {
+        TypeParserException e = null;
+        try {
+            parser.parse("a", Integer.class);
+        } catch (TypeParserException thrown) {
+            e = thrown;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(e);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            TypeParserException copy = (TypeParserException) in.readObject();
+            assertThat(copy.getMessage()).isEqualTo(e.getMessage());
+            assertThat(copy.getTargetType()).isNull();
+        }
+    }
 }
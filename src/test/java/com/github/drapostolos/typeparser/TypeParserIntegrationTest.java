@@ -461,4 +461,92 @@ public class TypeParserIntegrationTest extends TestBase {
                 .whenParsing(DUMMY_STRING)
                 .to(String.class);
     }
+
+    @Test
+    public void canParseToPrimitiveValues() throws Exception {
+        assertThat(parser.parseInt(" -12 ")).isEqualTo(-12);
+        assertThat(parser.parseLong(new StringBuilder("12345678901"))).isEqualTo(12345678901L);
+        assertThat(parser.parseShort("12")).isEqualTo((short) 12);
+        assertThat(parser.parseByte("-12")).isEqualTo((byte) -12);
+        assertThat(parser.parseDouble("1.5")).isEqualTo(1.5d);
+        assertThat(parser.parseFloat("1.5")).isEqualTo(1.5f);
+        assertThat(parser.parseBoolean(" TRUE")).isTrue();
+        assertThat(parser.parseChar("a")).isEqualTo('a');
+    }
+
+    @Test
+    public void shouldThrowSameExceptionWhenParsingToPrimitiveValue() throws Exception {
+        try {
+            parser.parseInt("1a");
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getMessage()).contains("to type \"int\"");
+            assertThat(e.getMessage()).contains("due to: NumberFormatException");
+        }
+        try {
+            parser.parseByte("128");
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getMessage()).contains("to type \"byte\"");
+        }
+        try {
+            parser.parseLong("null");
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getMessage()).contains("Primitive can not be set to null");
+        }
+    }
+
+    @Test
+    public void shouldThrowSameTypeParserExceptionAsParseMethodWhenParsingToPrimitiveValue() throws Exception {
+        TypeParser withPreprocessor = TypeParser.newBuilder()
+                .setInputPreprocessor((input, helper) -> input.replace("_", ""))
+                .build();
+        for (TypeParser p : Arrays.asList(parser, withPreprocessor)) {
+            assertThrowsSameAsParseMethod(() -> p.parseInt("1_a"), p, "1_a", int.class);
+            assertThrowsSameAsParseMethod(() -> p.parseLong("1_a"), p, "1_a", long.class);
+            assertThrowsSameAsParseMethod(() -> p.parseShort("40_000"), p, "40_000", short.class);
+            assertThrowsSameAsParseMethod(() -> p.parseByte("1_28"), p, "1_28", byte.class);
+            assertThrowsSameAsParseMethod(() -> p.parseDouble("1_a"), p, "1_a", double.class);
+            assertThrowsSameAsParseMethod(() -> p.parseFloat("1_a"), p, "1_a", float.class);
+            assertThrowsSameAsParseMethod(() -> p.parseBoolean("ye_s"), p, "ye_s", boolean.class);
+        }
+    }
+
+    private static void assertThrowsSameAsParseMethod(Runnable parsePrimitive, TypeParser parser,
+            String input, Class<?> type) {
+        TypeParserException expected = null;
+        try {
+            parser.parse(input, type);
+        } catch (TypeParserException e) {
+            expected = e;
+        }
+        try {
+            parsePrimitive.run();
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getMessage()).isEqualTo(expected.getMessage());
+            assertThat(e.getCause().getClass()).isEqualTo(expected.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void shouldHonourInputHandlingWhenParsingToPrimitiveValue() throws Exception {
+        // given
+        parser = TypeParser.newBuilder()
+                .setInputPreprocessor((input, helper) -> input.replace("_", ""))
+                .setNullStringStrategy((input, helper) -> input.equals("none"))
+                .registerParser(boolean.class, (input, helper) -> input.equals("yes"))
+                .build();
+
+        // then
+        assertThat(parser.parseInt("1_000")).isEqualTo(1000);
+        assertThat(parser.parseBoolean("yes")).isTrue();
+        try {
+            parser.parseInt("none");
+            fail("Expected TypeParserException");
+        } catch (TypeParserException e) {
+            assertThat(e.getMessage()).contains("Primitive can not be set to null");
+        }
+    }
 }
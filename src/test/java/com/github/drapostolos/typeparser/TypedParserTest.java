@@ -0,0 +1,72 @@
+package com.github.drapostolos.typeparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.MapEntry.entry;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TypedParserTest extends TestBase {
+
+    @Test
+    public void canCompileTypedParserForClass() throws Exception {
+        TypedParser<Integer> intParser = parser.compile(Integer.class);
+        assertThat(intParser.parse("1")).isEqualTo(1);
+        assertThat(intParser.parse(" 2 ")).isEqualTo(2);
+        assertThat(intParser.parse("null")).isNull();
+        assertThat(intParser.getTargetType()).isSameAs(Integer.class);
+    }
+
+    @Test
+    public void canCompileTypedParserForGenericType() throws Exception {
+        TypedParser<Map<String, Integer>> mapParser = parser.compile(new GenericType<Map<String, Integer>>() {});
+        assertThat(mapParser.parse("a=1,b=2")).containsOnly(entry("a", 1), entry("b", 2));
+        assertThat(mapParser.parse("null")).isEmpty();
+
+        TypedParser<Optional<List<Integer>>> optionalParser =
+                parser.compile(new GenericType<Optional<List<Integer>>>() {});
+        assertThat(optionalParser.parse("1, 2").get()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void canCompileTypedParserForType() throws Exception {
+        TypedParser<?> arrayParser = parser.compile(int[].class);
+        assertThat((int[]) arrayParser.parse("1, 2, 3")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldThrowWhenCompiledTypedParserFails() throws Exception {
+        shouldThrowTypeParserException()
+                .containingNumberFormatErrorMessage();
+        parser.compile(Integer.class).parse("a");
+    }
+
+    @Test
+    public void shouldThrowWhenCompiledTypedParserIsGivenNullInput() throws Exception {
+        shouldThrow(NullPointerException.class)
+                .containingErrorMessage("Argument named 'input' is illegally set to null!");
+        parser.compile(Integer.class).parse(null);
+    }
+
+    @Test
+    public void shouldPassSameParserHelperToParserForEachElement() throws Exception {
+        Set<ParserHelper> helpers = new HashSet<ParserHelper>();
+        TypeParser parser = TypeParser.newBuilder()
+                .registerParser(MyClass1.class, (input, helper) -> {
+                    helpers.add(helper);
+                    return new MyClass1(input);
+                })
+                .build();
+
+        parser.parse("a,b,c", new GenericType<List<MyClass1>>() {});
+        parser.parse("d", MyClass1.class);
+
+        assertThat(helpers).hasSize(1);
+    }
+
+}